@@ -0,0 +1,238 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.impl.ScreenshotContext;
+import com.codeborne.selenide.impl.WebDriverContainer;
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.openqa.selenium.support.events.WebDriverEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.Configuration.holdBrowserOpen;
+
+/**
+ * Browser (and selenide proxy server, if any) that is not bound to any thread.
+ *
+ * While code runs inside {@link #run(Runnable)}, all static methods of {@link Selenide} and {@link WebDriverRunner}
+ * use this browser instead of the browser of current thread. Sessions can be passed between threads and executors:
+ * <pre>
+ *   BrowserSession session = new BrowserSession(webDriver);
+ *   executor.submit(session.wrap(() -&gt; {
+ *     open("/login");
+ *     $("#username").val("bob");
+ *   }));
+ * </pre>
+ *
+ * This way many short-living scenarios (e.g. running in a thread pool or on lightweight threads)
+ * can share a limited number of browsers without binding them to threads.
+ * A browser cannot be used by two scenarios at once, so code of one session runs in one thread at a time:
+ * {@link #run(Runnable)} waits while the session is used in another thread.
+ *
+ * Listeners added by {@link com.codeborne.selenide.logevents.SelenideLogger#addListener} (e.g. soft asserts)
+ * and context of screenshots started inside of the session belong to the session, so they follow it to other threads.
+ *
+ * NB! Selenide doesn't close browsers of sessions automatically. Call {@link #closeWebDriver()} when the session is not needed.
+ */
+public class BrowserSession implements WebDriverContainer {
+  private static final Logger log = Logger.getLogger(BrowserSession.class.getName());
+  private static final ThreadLocal<BrowserSession> current = new ThreadLocal<>();
+
+  private volatile WebDriver webDriver;
+  private volatile SelenideProxyServer proxyServer;
+  private volatile Proxy proxy;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Map<String, LogEventListener> logEventListeners = new ConcurrentHashMap<>();
+  private final ScreenshotContext screenshotContext = new ScreenshotContext();
+
+  /**
+   * @param webDriver already started browser
+   */
+  public BrowserSession(WebDriver webDriver) {
+    this(webDriver, null);
+  }
+
+  /**
+   * @param webDriver already started browser
+   * @param proxyServer selenide proxy server used by this browser, or null
+   */
+  public BrowserSession(WebDriver webDriver, SelenideProxyServer proxyServer) {
+    this.webDriver = webDriver;
+    this.proxyServer = proxyServer;
+  }
+
+  /**
+   * @return session bound to current code by {@link #run(Runnable)}, or null if there is no such session
+   */
+  public static BrowserSession current() {
+    return current.get();
+  }
+
+  /**
+   * Runs given code with this session as the current one.
+   * If the session is being used in another thread, waits until that code is finished.
+   * After the code is finished, the previous session (if any) becomes current again.
+   */
+  public void run(Runnable code) {
+    call(() -> {
+      code.run();
+      return null;
+    });
+  }
+
+  /**
+   * Same as {@link #run(Runnable)}, but returns the result of given code.
+   */
+  public <T> T call(Supplier<T> code) {
+    lock.lock();
+    BrowserSession previous = current.get();
+    current.set(this);
+    try {
+      return code.get();
+    }
+    finally {
+      if (previous == null) {
+        current.remove();
+      }
+      else {
+        current.set(previous);
+      }
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return task that runs given code in this session, in whatever thread it's executed
+   */
+  public Runnable wrap(Runnable code) {
+    return () -> run(code);
+  }
+
+  /**
+   * @return listeners of Selenide steps executed in this session, see {@link com.codeborne.selenide.logevents.SelenideLogger}
+   */
+  public Map<String, LogEventListener> logEventListeners() {
+    return logEventListeners;
+  }
+
+  /**
+   * @return context of screenshots taken in this session, see {@link com.codeborne.selenide.impl.ScreenShotLaboratory}
+   */
+  public ScreenshotContext screenshotContext() {
+    return screenshotContext;
+  }
+
+  /**
+   * Adds listener to the browser of this session: the browser gets wrapped by {@link EventFiringWebDriver} if needed.
+   * NB! {@link WebDriver} instances got from the session before are not affected.
+   */
+  @Override
+  public synchronized void addListener(WebDriverEventListener listener) {
+    WebDriver webDriver = getWebDriver();
+    EventFiringWebDriver wrapper = webDriver instanceof EventFiringWebDriver ?
+        (EventFiringWebDriver) webDriver : new EventFiringWebDriver(webDriver);
+    log.info("Add listener to webdriver of session " + this + ": " + listener);
+    wrapper.register(listener);
+    this.webDriver = wrapper;
+  }
+
+  @Override
+  public WebDriver setWebDriver(WebDriver webDriver) {
+    this.webDriver = webDriver;
+    return webDriver;
+  }
+
+  @Override
+  public WebDriver getWebDriver() {
+    WebDriver webDriver = this.webDriver;
+    if (webDriver == null) {
+      throw new IllegalStateException("Browser of session " + this + " is already closed");
+    }
+    return webDriver;
+  }
+
+  @Override
+  public SelenideProxyServer getProxyServer() {
+    return proxyServer;
+  }
+
+  /**
+   * Proxy can be set only while the session has no browser, i.e. before browser is passed by {@link #setWebDriver(WebDriver)}.
+   * Browsers of sessions started by {@link WebDriverRunner#startSession()} use proxy set by {@link WebDriverRunner#setProxy(Proxy)}.
+   *
+   * @throws IllegalStateException if browser of the session is already started
+   */
+  @Override
+  public void setProxy(Proxy webProxy) {
+    if (hasWebDriverStarted()) {
+      throw new IllegalStateException("Cannot set proxy for already started browser of session " + this);
+    }
+    this.proxy = webProxy;
+  }
+
+  /**
+   * @return proxy set by {@link #setProxy(Proxy)} for the browser of this session, or null
+   */
+  public Proxy getProxy() {
+    return proxy;
+  }
+
+  @Override
+  public WebDriver getAndCheckWebDriver() {
+    return getWebDriver();
+  }
+
+  @Override
+  public synchronized void closeWebDriver() {
+    WebDriver webDriver = this.webDriver;
+    SelenideProxyServer proxyServer = this.proxyServer;
+    this.webDriver = null;
+    this.proxyServer = null;
+
+    if (holdBrowserOpen) return;
+
+    if (webDriver != null) {
+      log.info("Close webdriver of session " + this + " -> " + webDriver);
+      webDriver.quit();
+    }
+    if (proxyServer != null) {
+      log.info("Close proxy server of session " + this + " -> " + proxyServer);
+      proxyServer.shutdown();
+    }
+  }
+
+  @Override
+  public boolean hasWebDriverStarted() {
+    return webDriver != null;
+  }
+
+  @Override
+  public void clearBrowserCache() {
+    WebDriver webDriver = this.webDriver;
+    if (webDriver != null) {
+      webDriver.manage().deleteAllCookies();
+    }
+  }
+
+  @Override
+  public String getPageSource() {
+    return getWebDriver().getPageSource();
+  }
+
+  @Override
+  public String getCurrentUrl() {
+    return getWebDriver().getCurrentUrl();
+  }
+
+  @Override
+  public String getCurrentFrameUrl() {
+    return ((JavascriptExecutor) getWebDriver()).executeScript("return window.location.href").toString();
+  }
+}
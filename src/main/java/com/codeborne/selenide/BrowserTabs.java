@@ -0,0 +1,255 @@
+package com.codeborne.selenide;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+/**
+ * Tabs of one browser used as independent {@link BrowserSession}s.
+ *
+ * Useful for read-only checks that don't need separate cookies or storage: a tab needs much less memory than a browser.
+ * <pre>
+ *   BrowserTabs tabs = WebDriverRunner.startTabs();
+ *   for (String url : urls) {
+ *     BrowserSession tab = tabs.openTab();
+ *     executor.submit(tab.wrap(() -&gt; {
+ *       open(url);
+ *       $("h1").shouldBe(visible);
+ *       tab.closeWebDriver();
+ *     }));
+ *   }
+ * </pre>
+ *
+ * Every webdriver call made in a tab session first switches browser to the window of this tab (if needed).
+ * Webdriver calls are serialized: browser executes only one call at a time, so tabs can be used from different threads.
+ *
+ * NB! Tabs share cookies, local storage and selenide proxy server of the browser.
+ * Selected frame is reset when browser switches between tabs.
+ */
+public class BrowserTabs {
+  private static final Logger log = Logger.getLogger(BrowserTabs.class.getName());
+
+  private final BrowserSession browser;
+  private final WebDriver webDriver;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Set<Tab> tabs = new CopyOnWriteArraySet<>();
+  private boolean initialWindowUsed;
+  private String currentWindow;
+
+  /**
+   * @param browser browser which windows are used as tabs. It's closed by {@link #close()}.
+   */
+  public BrowserTabs(BrowserSession browser) {
+    this.browser = browser;
+    this.webDriver = browser.getWebDriver();
+  }
+
+  /**
+   * Opens a new tab in browser.
+   *
+   * @return session which runs all webdriver commands in this tab.
+   * Call {@link BrowserSession#closeWebDriver()} to close the tab.
+   */
+  public BrowserSession openTab() {
+    lock.lock();
+    try {
+      String window = initialWindowUsed ? openWindow() : webDriver.getWindowHandle();
+      initialWindowUsed = true;
+      currentWindow = window;
+
+      Tab tab = new Tab(window);
+      tab.setWebDriver((WebDriver) wrap(webDriver, tab));
+      tabs.add(tab);
+      log.fine("Opened tab " + window + " in " + webDriver);
+      return tab;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  private String openWindow() {
+    Set<String> before = new HashSet<>(webDriver.getWindowHandles());
+    ((JavascriptExecutor) webDriver).executeScript("window.open('about:blank', '_blank')");
+    Set<String> opened = new HashSet<>(webDriver.getWindowHandles());
+    opened.removeAll(before);
+    if (opened.size() != 1) {
+      throw new IllegalStateException("Failed to open a new tab in " + webDriver + ", new windows: " + opened);
+    }
+    String window = opened.iterator().next();
+    webDriver.switchTo().window(window);
+    return window;
+  }
+
+  /**
+   * @return number of open tabs
+   */
+  public int tabs() {
+    return tabs.size();
+  }
+
+  /**
+   * Closes the browser with all its tabs.
+   */
+  public void close() {
+    lock.lock();
+    try {
+      for (Tab tab : tabs) {
+        tab.setWebDriver(null);
+      }
+      tabs.clear();
+      currentWindow = null;
+      browser.closeWebDriver();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  private void activate(Tab tab) {
+    if (!tab.window.equals(currentWindow)) {
+      webDriver.switchTo().window(tab.window);
+      currentWindow = tab.window;
+    }
+  }
+
+  private void closeTab(Tab tab) {
+    lock.lock();
+    try {
+      if (!tabs.remove(tab)) return;
+
+      activate(tab);
+      if (webDriver.getWindowHandles().size() > 1) {
+        webDriver.close();
+        // Webdriver stays focused on the closed window, so switch to any live one
+        String window = tabs.isEmpty() ? webDriver.getWindowHandles().iterator().next() : tabs.iterator().next().window;
+        webDriver.switchTo().window(window);
+        currentWindow = window;
+      }
+      else {
+        // Closing the last window would close the whole browser
+        webDriver.navigate().to("about:blank");
+        initialWindowUsed = false;
+      }
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  private Object wrap(Object target, Tab tab) {
+    if (target instanceof List) {
+      List<Object> wrapped = new ArrayList<>();
+      for (Object item : (List<?>) target) {
+        wrapped.add(wrap(item, tab));
+      }
+      return wrapped;
+    }
+    if (!(target instanceof WebDriver || target instanceof WebElement || target instanceof Alert ||
+        target instanceof WebDriver.Options || target instanceof WebDriver.Navigation ||
+        target instanceof WebDriver.TargetLocator || target instanceof WebDriver.Window ||
+        target instanceof WebDriver.Timeouts)) {
+      return target;
+    }
+
+    List<Class<?>> interfaces = ClassUtils.getAllInterfaces(target.getClass());
+    return Proxy.newProxyInstance(target.getClass().getClassLoader(),
+        interfaces.toArray(new Class<?>[interfaces.size()]),
+        new TabCommand(target, tab));
+  }
+
+  private static Object unwrap(Object arg) {
+    if (arg != null && Proxy.isProxyClass(arg.getClass()) && Proxy.getInvocationHandler(arg) instanceof TabCommand) {
+      return ((TabCommand) Proxy.getInvocationHandler(arg)).target;
+    }
+    if (arg instanceof Object[]) {
+      Object[] array = ((Object[]) arg).clone();
+      for (int i = 0; i < array.length; i++) {
+        array[i] = unwrap(array[i]);
+      }
+      return array;
+    }
+    if (arg instanceof List) {
+      List<Object> list = new ArrayList<>();
+      for (Object item : (List<?>) arg) {
+        list.add(unwrap(item));
+      }
+      return list;
+    }
+    return arg;
+  }
+
+  /**
+   * Runs webdriver command in the window of given tab.
+   */
+  private class TabCommand implements InvocationHandler {
+    private final Object target;
+    private final Tab tab;
+
+    private TabCommand(Object target, Tab tab) {
+      this.target = target;
+      this.tab = tab;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (method.getDeclaringClass() == Object.class) {
+        return method.invoke(target, args);
+      }
+
+      lock.lock();
+      try {
+        activate(tab);
+        Object result = method.invoke(target, (Object[]) unwrap(args));
+        if (target instanceof WebDriver.TargetLocator && "window".equals(method.getName())) {
+          tab.window = webDriver.getWindowHandle();
+          currentWindow = tab.window;
+        }
+        return wrap(result, tab);
+      }
+      catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private class Tab extends BrowserSession {
+    private volatile String window;
+
+    private Tab(String window) {
+      super(null, browser.getProxyServer());
+      this.window = window;
+    }
+
+    /**
+     * Closes only this tab, not the whole browser.
+     */
+    @Override
+    public synchronized void closeWebDriver() {
+      closeTab(this);
+      setWebDriver(null);
+    }
+
+    @Override
+    public String toString() {
+      return "tab " + window;
+    }
+  }
+}
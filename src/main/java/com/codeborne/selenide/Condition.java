@@ -7,7 +7,11 @@ import com.google.common.base.Predicate;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.codeborne.selenide.Selenide.getFocusedElement;
+import static java.util.Arrays.asList;
 
 /**
  * Conditions to match web elements: checks for visibility, text etc.
@@ -23,6 +27,11 @@ public abstract class Condition implements Predicate<WebElement> {
     public boolean apply(WebElement element) {
       return element.isDisplayed();
     }
+
+    @Override
+    public List<?> compileToJs() {
+      return asList("visible");
+    }
   };
 
   /**
@@ -41,6 +50,11 @@ public abstract class Condition implements Predicate<WebElement> {
         return false;
       }
     }
+
+    @Override
+    public List<?> compileToJs() {
+      return asList("exist");
+    }
   };
 
   /**
@@ -69,6 +83,11 @@ public abstract class Condition implements Predicate<WebElement> {
         return true;
       }
     }
+
+    @Override
+    public List<?> compileToJs() {
+      return asList("hidden");
+    }
   };
 
   /**
@@ -137,6 +156,10 @@ public abstract class Condition implements Predicate<WebElement> {
         return element.getAttribute(attributeName) != null;
       }
       @Override
+      public List<?> compileToJs() {
+        return asList("attribute", attributeName);
+      }
+      @Override
       public String toString() {
         return name + " " + attributeName;
       }
@@ -156,6 +179,10 @@ public abstract class Condition implements Predicate<WebElement> {
         return expectedAttributeValue.equals(getAttributeValue(element, attributeName));
       }
       @Override
+      public List<?> compileToJs() {
+        return asList("attributeValue", attributeName, expectedAttributeValue);
+      }
+      @Override
       public String toString() {
         return name + " " + attributeName + '=' + expectedAttributeValue;
       }
@@ -182,6 +209,10 @@ public abstract class Condition implements Predicate<WebElement> {
         return Html.text.contains(getAttributeValue(element, "value"), expectedValue);
       }
       @Override
+      public List<?> compileToJs() {
+        return asList("value", expectedValue);
+      }
+      @Override
       public String toString() {
         return name + " '" + expectedValue + "'";
       }
@@ -309,6 +340,10 @@ public abstract class Condition implements Predicate<WebElement> {
         return Html.text.containsCaseSensitive(element.getText(), text);
       }
       @Override
+      public List<?> compileToJs() {
+        return asList("textCaseSensitive", text);
+      }
+      @Override
       public String toString() {
         return name + " '" + text + '\'';
       }
@@ -330,6 +365,10 @@ public abstract class Condition implements Predicate<WebElement> {
         return Html.text.equals(element.getText(), text);
       }
       @Override
+      public List<?> compileToJs() {
+        return asList("exactText", text);
+      }
+      @Override
       public String toString() {
         return name + " '" + text + '\'';
       }
@@ -350,6 +389,10 @@ public abstract class Condition implements Predicate<WebElement> {
         return Html.text.equalsCaseSensitive(element.getText(), text);
       }
       @Override
+      public List<?> compileToJs() {
+        return asList("exactTextCaseSensitive", text);
+      }
+      @Override
       public String toString() {
         return name + " '" + text + '\'';
       }
@@ -398,6 +441,10 @@ public abstract class Condition implements Predicate<WebElement> {
         return hasClass(element, cssClass);
       }
       @Override
+      public List<?> compileToJs() {
+        return asList("cssClass", cssClass);
+      }
+      @Override
       public String toString() {
         return name + " '" + cssClass + '\'';
       }
@@ -469,6 +516,10 @@ public abstract class Condition implements Predicate<WebElement> {
       return element.isEnabled();
     }
 
+    @Override public List<?> compileToJs() {
+      return asList("enabled");
+    }
+
     @Override public String actualValue(WebElement element) {
       return element.isEnabled() ? "enabled" : "disabled";
     }
@@ -483,6 +534,10 @@ public abstract class Condition implements Predicate<WebElement> {
       return !element.isEnabled();
     }
 
+    @Override public List<?> compileToJs() {
+      return asList("disabled");
+    }
+
     @Override public String actualValue(WebElement element) {
       return element.isEnabled() ? "enabled" : "disabled";
     }
@@ -497,6 +552,10 @@ public abstract class Condition implements Predicate<WebElement> {
       return element.isSelected();
     }
 
+    @Override public List<?> compileToJs() {
+      return asList("selected");
+    }
+
     @Override public String actualValue(WebElement element) {
       return String.valueOf(element.isSelected());
     }
@@ -511,6 +570,10 @@ public abstract class Condition implements Predicate<WebElement> {
       return element.isSelected();
     }
 
+    @Override public List<?> compileToJs() {
+      return asList("selected");
+    }
+
     @Override public String actualValue(WebElement element) {
       return String.valueOf(element.isSelected());
     }
@@ -530,6 +593,11 @@ public abstract class Condition implements Predicate<WebElement> {
         return !condition.apply(element);
       }
 
+      @Override
+      public List<?> compileToJs() {
+        return compileAll("not", condition);
+      }
+
       @Override
       public String actualValue(WebElement element) {
         return condition.actualValue(element);
@@ -563,6 +631,11 @@ public abstract class Condition implements Predicate<WebElement> {
         return lastFailedCondition == null ? null : lastFailedCondition.actualValue(element);
       }
 
+      @Override
+      public List<?> compileToJs() {
+        return compileAll("and", condition);
+      }
+
       @Override
       public String toString() {
         return lastFailedCondition == null ? super.toString() : lastFailedCondition.toString();
@@ -598,6 +671,11 @@ public abstract class Condition implements Predicate<WebElement> {
         return firstFailedCondition == null ? null : firstFailedCondition.actualValue(element);
       }
 
+      @Override
+      public List<?> compileToJs() {
+        return compileAll("or", condition);
+      }
+
       @Override
       public String toString() {
         return firstFailedCondition == null ? super.toString() : firstFailedCondition.toString();
@@ -637,6 +715,11 @@ public abstract class Condition implements Predicate<WebElement> {
         return delegate.actualValue(element);
       }
 
+      @Override
+      public List<?> compileToJs() {
+        return delegate.compileToJs();
+      }
+
       @Override
       public String toString() {
         return prefix + ' ' + delegate.toString();
@@ -664,6 +747,11 @@ public abstract class Condition implements Predicate<WebElement> {
       return delegate.actualValue(element);
     }
 
+    @Override
+    public List<?> compileToJs() {
+      return delegate.compileToJs();
+    }
+
     @Override
     public String toString() {
       return delegate.toString() + " (because " + message + ")";
@@ -707,6 +795,33 @@ public abstract class Condition implements Predicate<WebElement> {
     return null;
   }
 
+  /**
+   * Optional: describes this condition in a form which can be evaluated in browser by a single JavaScript call,
+   * e.g. {@code ["attributeValue", "id", "firstName"]} or {@code ["and", ["visible"], ["text", "Hello"]]}.
+   * Used only if {@link Configuration#checkConditionsInBrowser} is enabled.
+   *
+   * Custom conditions don't need to override this method: they are always checked in Java.
+   *
+   * @return condition name followed by its arguments, or null if this condition can be checked only in Java
+   * @see com.codeborne.selenide.impl.JsConditions
+   */
+  public List<?> compileToJs() {
+    return null;
+  }
+
+  private static List<?> compileAll(String operator, Condition... conditions) {
+    List<Object> compiled = new ArrayList<>(conditions.length + 1);
+    compiled.add(operator);
+    for (Condition condition : conditions) {
+      List<?> compiledCondition = condition.compileToJs();
+      if (compiledCondition == null) {
+        return null;
+      }
+      compiled.add(compiledCondition);
+    }
+    return compiled;
+  }
+
   /**
    * Should be used for explaining the reason of condition
    */
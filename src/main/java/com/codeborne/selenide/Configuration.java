@@ -48,6 +48,25 @@ public class Configuration {
   public static long collectionsPollingInterval = Long.parseLong(
           System.getProperty("selenide.collectionsPollingInterval", "200"));
 
+  /**
+   * How to sleep between attempts to check a condition:
+   * <ul>
+   *   <li>FIXED - always sleep {@link #pollingInterval} (or {@link #collectionsPollingInterval})</li>
+   *   <li>EXPONENTIAL - start with short delays and double them after every failed attempt</li>
+   *   <li>ADAPTIVE - learn how long every selector usually needs to settle, and sleep exactly until that moment</li>
+   *   <li>DOM_MUTATIONS - instead of sleeping, wait in browser until the page DOM changes (using MutationObserver)</li>
+   * </ul>
+   * Can be configured either programmatically or by system property "-Dselenide.pollingMode=ADAPTIVE"
+   * Default value: FIXED
+   *
+   * @see com.codeborne.selenide.impl.PollingStrategies
+   */
+  public static PollingMode pollingMode = PollingMode.valueOf(System.getProperty("selenide.pollingMode", "FIXED"));
+
+  public enum PollingMode {
+    FIXED, EXPONENTIAL, ADAPTIVE, DOM_MUTATIONS
+  }
+
   /**
    * If holdBrowserOpen is true, browser window stays open after running tests. It may be useful for debugging.
    * Can be configured either programmatically or by system property "-Dselenide.holdBrowserOpen=true".
@@ -67,6 +86,39 @@ public class Configuration {
   public static boolean reopenBrowserOnFail = Boolean.parseBoolean(
       System.getProperty("selenide.reopenBrowserOnFail", "true"));
 
+  /**
+   * If {@link #reopenBrowserOnFail} is true, Selenide checks that browser is still alive before opening every page.
+   * If browser successfully executed some command during last {@code browserAliveCheckIntervalMs} milliseconds,
+   * Selenide considers it alive and doesn't check it once more.
+   * <p>
+   * Can be configured either programmatically or by system property "-Dselenide.browserAliveCheckInterval=5000".
+   * Takes effect for browsers opened after the change.
+   * <p>
+   * Default value: 0 (check browser before opening every page)
+   */
+  public static long browserAliveCheckIntervalMs = Long.parseLong(
+      System.getProperty("selenide.browserAliveCheckInterval", "0"));
+
+  /**
+   * Should Selenide remember paths of webdriver binaries (chromedriver, geckodriver etc.) resolved by WebDriverManager
+   * in "~/.cache/selenide/drivers.properties", so that next runs don't resolve them again (which may require network access).
+   * <p>
+   * Can be configured either programmatically or by system property "-Dselenide.cacheDriverBinaries=true".
+   * <p>
+   * Default value: false
+   */
+  public static boolean cacheDriverBinaries = Boolean.parseBoolean(System.getProperty("selenide.cacheDriverBinaries", "false"));
+
+  /**
+   * Resolve webdriver binaries without network access: use only binaries cached by Selenide (see {@link #cacheDriverBinaries})
+   * or by WebDriverManager. Useful in CI without internet access.
+   * <p>
+   * Can be configured either programmatically or by system property "-Dselenide.offlineDriverBinaries=true".
+   * <p>
+   * Default value: false
+   */
+  public static boolean offlineDriverBinaries = Boolean.parseBoolean(System.getProperty("selenide.offlineDriverBinaries", "false"));
+
   /**
    * Timeout (in milliseconds) for opening (creating) a browser (webdriver).
    * <p/>
@@ -85,6 +137,26 @@ public class Configuration {
    */
   public static long closeBrowserTimeoutMs = Long.parseLong(System.getProperty("selenide.closeBrowserTimeout", "5000"));
 
+  /**
+   * If set to true, {@link WebDriverRunner#closeWebDriver()} doesn't wait until the browser is closed.
+   * Browsers are closed by a few background threads, and JVM waits for them (up to {@link #closeBrowserTimeoutMs}) before exit.
+   * <p/>
+   * Can be configured either programmatically or by system property "-Dselenide.closeBrowserAsync=true"
+   * Default value: false
+   */
+  public static boolean closeBrowserAsync = Boolean.parseBoolean(System.getProperty("selenide.closeBrowserAsync", "false"));
+
+  /**
+   * How often (in milliseconds) Selenide checks if threads that opened browsers are still alive.
+   * Browsers opened by dead threads are closed.
+   * <p/>
+   * Can be configured either programmatically or by system property "-Dselenide.unusedWebdriversCheckInterval=1000".
+   * Takes effect when the first browser is opened.
+   * Default value: 100 (milliseconds)
+   */
+  public static long unusedWebdriversCheckIntervalMs = Long.parseLong(
+      System.getProperty("selenide.unusedWebdriversCheckInterval", "100"));
+
   /**
    * Which browser to use.
    * Can be configured either programmatically or by system property "-Dselenide.browser=ie" or "-Dbrowser=ie".
@@ -213,6 +285,98 @@ public class Configuration {
    */
   public static boolean savePageSource = Boolean.parseBoolean(System.getProperty("selenide.savePageSource", "true"));
 
+  /**
+   * Folder to store session snapshots (see {@link Selenide#saveSession(String)}), so that they can be reused by next test runs.
+   * Can be configured either programmatically or by system property "-Dselenide.sessionSnapshotsFolder=build/sessions".
+   * <p/>
+   * NB! Snapshots contain cookies, e.g. authentication tokens. Don't store them in a shared folder.
+   * <p/>
+   * Default value: null (snapshots are kept only in memory)
+   */
+  public static String sessionSnapshotsFolder = System.getProperty("selenide.sessionSnapshotsFolder");
+
+  /**
+   * Session snapshots older than this are not restored (see {@link Selenide#restoreSession(String)}),
+   * because server side of the session has probably expired.
+   * Can be configured either programmatically or by system property "-Dselenide.sessionSnapshotMaxAgeMs=7200000".
+   * <p/>
+   * Default value: 3600000 (1 hour)
+   */
+  public static long sessionSnapshotMaxAgeMs = Long.parseLong(System.getProperty("selenide.sessionSnapshotMaxAgeMs", "3600000"));
+
+  /**
+   * If true, screenshots and page sources are written to disk by background threads.
+   * Test thread only takes the screenshot from browser and doesn't wait until the file is written.
+   * All files are written before JVM exits.
+   * <p>
+   * Can be configured either programmatically or by system property "-Dselenide.asyncScreenshots=true".
+   * <p>
+   * Default value: false
+   */
+  public static boolean asyncScreenshots = Boolean.parseBoolean(System.getProperty("selenide.asyncScreenshots", "false"));
+
+  /**
+   * If true, screenshots of elements are taken by browser itself, if browser supports it.
+   * Otherwise Selenide takes screenshot of the whole page and cuts the element out of it.
+   * <p>
+   * NB! Browser scrolls to the element and shows it completely, even if it's larger than the browser window.
+   * <p>
+   * Can be configured either programmatically or by system property "-Dselenide.nativeElementScreenshots=true".
+   * <p>
+   * Default value: false
+   */
+  public static boolean nativeElementScreenshots = Boolean.parseBoolean(
+      System.getProperty("selenide.nativeElementScreenshots", "false"));
+
+  /**
+   * If true, every unique screenshot and page source is stored only once, in folder "content-store" of {@link #reportsFolder}.
+   * Screenshots of tests are hard links to the stored files (or copies, if file system doesn't support hard links).
+   * Useful when many tests fail on the same page.
+   * <p>
+   * Can be configured either programmatically or by system property "-Dselenide.deduplicateScreenshots=true".
+   * <p>
+   * Default value: false
+   */
+  public static boolean deduplicateScreenshots = Boolean.parseBoolean(
+      System.getProperty("selenide.deduplicateScreenshots", "false"));
+
+  /**
+   * Maximum width of screenshots (in pixels). Larger screenshots are downscaled proportionally before writing to disk.
+   * Can be configured either programmatically or by system property "-Dselenide.screenshotMaxWidth=1280".
+   * <p>
+   * Default value: 0 (screenshots are not downscaled)
+   */
+  public static int screenshotMaxWidth = Integer.parseInt(System.getProperty("selenide.screenshotMaxWidth", "0"));
+
+  /**
+   * PNG compression level of screenshots: from 0 (no compression) to 9 (best compression).
+   * NB! Requires Java 9+, older Java versions always use the default compression level.
+   * <p>
+   * Can be configured either programmatically or by system property "-Dselenide.screenshotCompressionLevel=9".
+   * <p>
+   * Default value: -1 (default compression level)
+   */
+  public static int screenshotCompressionLevel = Integer.parseInt(System.getProperty("selenide.screenshotCompressionLevel", "-1"));
+
+  /**
+   * Colors of screenshots: "rgb" (as is), "grayscale" or "indexed" (256 colors).
+   * Can be configured either programmatically or by system property "-Dselenide.screenshotColors=grayscale".
+   * <p>
+   * Default value: "rgb"
+   */
+  public static String screenshotColors = System.getProperty("selenide.screenshotColors", "rgb");
+
+  /**
+   * How many last screenshots are kept in memory (see {@link Screenshots#getLastScreenshot()}).
+   * If set, all screenshots are listed in file "screenshots.{run id}.index" in {@link #reportsFolder} instead of memory,
+   * so that long test runs don't run out of memory.
+   * <p>
+   * Can be configured either programmatically or by system property "-Dselenide.screenshotsHistorySize=100".
+   * <p>
+   * Default value: -1 (all screenshots are kept in memory)
+   */
+  public static int screenshotsHistorySize = Integer.parseInt(System.getProperty("selenide.screenshotsHistorySize", "-1"));
+
   /**
    * Folder to store screenshots to.
    * Can be configured either programmatically or by system property "-Dselenide.reportsFolder=test-result/reports".
@@ -313,6 +477,60 @@ public class Configuration {
    */
   public static boolean setValueChangeEvent = Boolean.parseBoolean(System.getProperty("selenide.setValueChangeEvent", "true"));
 
+  /**
+   * If set to true, Selenide finds element and checks built-in conditions (visible, text, attribute, cssClass etc.)
+   * in browser with a single JavaScript call instead of multiple webdriver calls.
+   * Custom conditions and complex selectors are still checked in Java.
+   * Texts of collection elements (e.g. for {@link CollectionCondition#texts(String...)}) are also fetched
+   * by a single JavaScript call. The same is done for describing elements in error messages.
+   *
+   * NB! Browser-side checks of visibility and text are close to, but not exactly the same as
+   * {@link org.openqa.selenium.WebElement#isDisplayed()} and {@link org.openqa.selenium.WebElement#getText()}.
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.checkConditionsInBrowser=true".
+   * Default value: false
+   */
+  public static boolean checkConditionsInBrowser = Boolean.parseBoolean(
+      System.getProperty("selenide.checkConditionsInBrowser", "false"));
+
+  /**
+   * If set to true, every element ($) remembers the last found WebElement and reuses it
+   * until it gets stale or page is reloaded (by Selenide open/refresh/back/forward/switchTo methods).
+   * It's especially effective for nested elements like {@code $("#a").$(".b").$(".c")}, because
+   * parent elements are not searched again and again.
+   *
+   * Counters of cache hits and misses are available in {@link com.codeborne.selenide.impl.ElementsCache}.
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.cacheElements=true".
+   * Default value: false
+   */
+  public static boolean cacheElements = Boolean.parseBoolean(System.getProperty("selenide.cacheElements", "false"));
+
+  /**
+   * If set to true, nested elements like {@code $("#menu").$(".item")} or {@code $x("//form").$x(".//input")}
+   * are found by a single combined selector instead of searching every parent separately.
+   * Selectors are combined only when it's guaranteed to find the same element,
+   * otherwise parents are searched one by one as before.
+   *
+   * It's especially effective for page objects with deeply nested {@link ElementsContainer}s.
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.flattenSelectors=true".
+   * Default value: false
+   */
+  public static boolean flattenSelectors = Boolean.parseBoolean(System.getProperty("selenide.flattenSelectors", "false"));
+
+  /**
+   * If set to true, when a nested element (like {@code $("#a").$(".b")}) is not found,
+   * Selenide checks its parents only once to report which of them is missing.
+   * Otherwise every parent is awaited again (up to {@link #timeout}), so that a failure in a deep chain
+   * of elements can take a few timeouts. Error messages are the same in both cases.
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.fastFailureDiagnostics=true".
+   * Default value: false
+   */
+  public static boolean fastFailureDiagnostics = Boolean.parseBoolean(
+      System.getProperty("selenide.fastFailureDiagnostics", "false"));
+
   /**
    * Choose how Selenide should retrieve web elements: using default CSS or Sizzle (CSS3)
    */
@@ -380,6 +598,33 @@ public class Configuration {
   public static FileDownloadMode fileDownload = FileDownloadMode.valueOf(
           System.getProperty("selenide.fileDownload", HTTPGET.name()));
 
+  /**
+   * If true, all browsers use one shared proxy server (when {@link #fileDownload} is {@link FileDownloadMode#PROXY}).
+   * Every browser still has its own port and filters, but they share threads of one server
+   * instead of starting a separate proxy server per browser.
+   * <p>
+   * Not used if a custom proxy is set by {@link WebDriverRunner#setProxy(org.openqa.selenium.Proxy)}.
+   * <p>
+   * NB! Shared proxy server is not a BrowserMob proxy: {@code getSelenideProxy().getProxy()} throws UnsupportedOperationException.
+   * Use request and response filters of {@link WebDriverRunner#getSelenideProxy()} instead.
+   * <p>
+   * Can be configured either programmatically or by system property "-Dselenide.sharedProxyServer=true".
+   * <p>
+   * Default value: false
+   */
+  public static boolean sharedProxyServer = Boolean.parseBoolean(System.getProperty("selenide.sharedProxyServer", "false"));
+
+  /**
+   * Number of worker threads of the shared proxy server (see {@link #sharedProxyServer}):
+   * both for browser connections and for server connections.
+   * <p>
+   * Can be configured either programmatically or by system property "-Dselenide.sharedProxyServerThreads=8".
+   * Takes effect when the shared proxy server is started.
+   * <p>
+   * Default value: 4
+   */
+  public static int sharedProxyServerThreads = Integer.parseInt(System.getProperty("selenide.sharedProxyServerThreads", "4"));
+
   /**
    * Controls Selenide and WebDriverManager integration.
    * When integration is enabled you don't need to download and setup any browser driver executables.
@@ -4,9 +4,14 @@ import com.codeborne.selenide.ex.UIAssertionError;
 import com.codeborne.selenide.impl.Cleanup;
 import com.codeborne.selenide.impl.CollectionElement;
 import com.codeborne.selenide.impl.CollectionElementByCondition;
+import com.codeborne.selenide.impl.Describe;
+import com.codeborne.selenide.impl.ElementsSnapshot;
 import com.codeborne.selenide.impl.FilteringCollection;
 import com.codeborne.selenide.impl.HeadOfCollection;
+import com.codeborne.selenide.impl.JsConditions;
 import com.codeborne.selenide.impl.LastCollectionElement;
+import com.codeborne.selenide.impl.PollingStrategies;
+import com.codeborne.selenide.impl.PollingStrategy.Polling;
 import com.codeborne.selenide.impl.SelenideElementIterator;
 import com.codeborne.selenide.impl.SelenideElementListIterator;
 import com.codeborne.selenide.impl.TailOfCollection;
@@ -17,6 +22,7 @@ import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -97,10 +103,12 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
     Exception lastError = null;
     List<WebElement> actualElements = null;
     final long startTime = System.currentTimeMillis();
+    Polling polling = PollingStrategies.current().start(collection.description(), timeoutMs, collectionsPollingInterval);
     do {
       try {
         actualElements = collection.getActualElements();
         if (condition.apply(actualElements)) {
+          polling.succeeded();
           return;
         }
       }
@@ -111,7 +119,7 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
           throw Cleanup.of.wrap(elementNotFound);
         }
       }
-      sleep(collectionsPollingInterval);
+      sleep(polling.nextDelay());
     }
     while (System.currentTimeMillis() - startTime < timeoutMs);
     condition.fail(collection, actualElements, lastError, timeoutMs);
@@ -209,6 +217,14 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
    * @return Array of texts (or exceptions in case of any WebDriverExceptions)
    */
   public static List<String> texts(Collection<WebElement> elements) {
+    if (elements.size() > 1 && JsConditions.instance.isEnabled()) {
+      try {
+        return ElementsSnapshot.texts(new ArrayList<>(elements));
+      }
+      catch (WebDriverException someElementDisappeared) {
+        // fallback to fetching texts one by one
+      }
+    }
     return elements.stream().map(e -> getText(e)).collect(toList());
   }
 
@@ -248,13 +264,21 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
       return "[]";
     }
 
+    List<String> describedInBrowser = elements.size() > 1 ? Describe.describeInBrowser(elements) : null;
+
     StringBuilder sb = new StringBuilder(256);
     sb.append("[\n\t");
+    int i = 0;
     for (WebElement element : elements) {
       if (sb.length() > 4) {
         sb.append(",\n\t");
       }
-      sb.append($(element));
+      if (describedInBrowser != null) {
+        sb.append(describedInBrowser.get(i++));
+      }
+      else {
+        sb.append($(element));
+      }
     }
     sb.append("\n]");
     return sb.toString();
@@ -65,6 +65,14 @@ public class Screenshots {
     return screenshots.takeScreenshotAsImage(element);
   }
 
+  /**
+   * Take all element screenshots inside of given code from one screenshot of the page.
+   * The page should not change inside of the code.
+   */
+  public static void samePage(Runnable code) {
+    screenshots.samePage(code);
+  }
+
   public static void startContext(String className, String methodName) {
     screenshots.startContext(className, methodName);
   }
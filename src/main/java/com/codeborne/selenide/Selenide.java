@@ -4,8 +4,10 @@ import com.codeborne.selenide.ex.DialogTextMismatch;
 import com.codeborne.selenide.ex.JavaScriptErrorsFound;
 import com.codeborne.selenide.impl.BySelectorCollection;
 import com.codeborne.selenide.impl.ElementFinder;
+import com.codeborne.selenide.impl.ElementsCache;
 import com.codeborne.selenide.impl.Navigator;
 import com.codeborne.selenide.impl.SelenideFieldDecorator;
+import com.codeborne.selenide.impl.SessionSnapshots;
 import com.codeborne.selenide.impl.WebElementsCollectionWrapper;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
@@ -625,6 +627,7 @@ public class Selenide {
    * @return SelenideTargetLocator
    */
   public static SelenideTargetLocator switchTo() {
+    ElementsCache.instance.invalidate(getWebDriver());
     return new SelenideTargetLocator(getWebDriver().switchTo());
   }
 
@@ -837,6 +840,42 @@ public class Selenide {
     executeJavaScript("localStorage.clear();");
   }
 
+  /**
+   * Save cookies, local storage and session storage of currently opened site with the given key (e.g. user name).
+   * Use {@link #restoreSession(String)} to restore them later, e.g. to log in without going through login pages:
+   * <pre>
+   *   if (!restoreSession("bob")) {
+   *     login("bob", "secret");
+   *     saveSession("bob");
+   *   }
+   *   open("/dashboard");
+   * </pre>
+   *
+   * @param key any string identifying the session, e.g. user name
+   * @see Configuration#sessionSnapshotsFolder
+   */
+  public static SessionSnapshot saveSession(String key) {
+    SessionSnapshot snapshot = SessionSnapshot.capture();
+    SessionSnapshots.instance.save(key, snapshot);
+    return snapshot;
+  }
+
+  /**
+   * Restore cookies, local storage and session storage saved by {@link #saveSession(String)}.
+   * If another site is opened in browser, the site of saved session is opened first.
+   *
+   * @return false if there is no session saved with given key,
+   * or it's older than {@link Configuration#sessionSnapshotMaxAgeMs}
+   */
+  public static boolean restoreSession(String key) {
+    SessionSnapshot snapshot = SessionSnapshots.instance.get(key);
+    if (snapshot == null) {
+      return false;
+    }
+    snapshot.restore();
+    return true;
+  }
+
   /**
    * Get current user agent from browser session
    *
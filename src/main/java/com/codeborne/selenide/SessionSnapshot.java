@@ -0,0 +1,147 @@
+package com.codeborne.selenide;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
+
+/**
+ * Cookies, local storage and session storage of the currently opened site.
+ *
+ * Allows to log in once and then restore the logged-in state in any (fresh or reused) browser
+ * instead of going through the login pages again. See {@link Selenide#saveSession(String)}.
+ */
+public class SessionSnapshot {
+  private static final Logger log = Logger.getLogger(SessionSnapshot.class.getName());
+
+  private static final String CAPTURE_SCRIPT =
+      "function copy(storage) {" +
+      "  var result = {};" +
+      "  for (var i = 0; i < storage.length; i++) result[storage.key(i)] = storage.getItem(storage.key(i));" +
+      "  return result;" +
+      "}" +
+      "return [window.location.origin, copy(window.localStorage), copy(window.sessionStorage)];";
+
+  private static final String RESTORE_SCRIPT =
+      "if (window.location.origin !== arguments[0]) return false;" +
+      "function fill(storage, items) {" +
+      "  storage.clear();" +
+      "  for (var key in items) storage.setItem(key, items[key]);" +
+      "}" +
+      "fill(window.localStorage, arguments[1]);" +
+      "fill(window.sessionStorage, arguments[2]);" +
+      "return true;";
+
+  private final String origin;
+  private final List<Cookie> cookies;
+  private final Map<String, String> localStorage;
+  private final Map<String, String> sessionStorage;
+  private final long capturedAt;
+
+  /**
+   * @param origin protocol, host and port of the site, e.g. "https://example.com:8080"
+   */
+  public SessionSnapshot(String origin, List<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage) {
+    this(origin, cookies, localStorage, sessionStorage, System.currentTimeMillis());
+  }
+
+  /**
+   * @param origin protocol, host and port of the site, e.g. "https://example.com:8080"
+   * @param capturedAt time when the snapshot was taken, in milliseconds since epoch
+   */
+  public SessionSnapshot(String origin, List<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage,
+                         long capturedAt) {
+    this.origin = origin;
+    this.cookies = new ArrayList<>(cookies);
+    this.localStorage = new HashMap<>(localStorage);
+    this.sessionStorage = new HashMap<>(sessionStorage);
+    this.capturedAt = capturedAt;
+  }
+
+  /**
+   * Takes snapshot of the site opened in current browser.
+   */
+  @SuppressWarnings("unchecked")
+  public static SessionSnapshot capture() {
+    WebDriver webDriver = getWebDriver();
+    List<Object> storages = (List<Object>) ((JavascriptExecutor) webDriver).executeScript(CAPTURE_SCRIPT);
+    return new SessionSnapshot((String) storages.get(0),
+        new ArrayList<>(webDriver.manage().getCookies()),
+        toStrings((Map<String, Object>) storages.get(1)),
+        toStrings((Map<String, Object>) storages.get(2)));
+  }
+
+  private static Map<String, String> toStrings(Map<String, Object> items) {
+    Map<String, String> result = new HashMap<>(items.size());
+    items.forEach((key, value) -> result.put(key, String.valueOf(value)));
+    return result;
+  }
+
+  /**
+   * Restores cookies and storages in current browser.
+   * If browser has another site opened, it opens the snapshot's origin first.
+   */
+  public void restore() {
+    WebDriver webDriver = getWebDriver();
+    JavascriptExecutor js = (JavascriptExecutor) webDriver;
+    if (!Boolean.TRUE.equals(js.executeScript(RESTORE_SCRIPT, origin, localStorage, sessionStorage))) {
+      log.fine("Open " + origin + " to restore session");
+      webDriver.navigate().to(origin);
+      js.executeScript(RESTORE_SCRIPT, origin, localStorage, sessionStorage);
+    }
+
+    WebDriver.Options options = webDriver.manage();
+    options.deleteAllCookies();
+    for (Cookie cookie : cookies) {
+      options.addCookie(cookie);
+    }
+  }
+
+  /**
+   * @return protocol, host and port of the site, e.g. "https://example.com:8080"
+   */
+  public String getOrigin() {
+    return origin;
+  }
+
+  /**
+   * @return cookies of the site
+   */
+  public List<Cookie> getCookies() {
+    return cookies;
+  }
+
+  /**
+   * @return items of window.localStorage
+   */
+  public Map<String, String> getLocalStorage() {
+    return localStorage;
+  }
+
+  /**
+   * @return items of window.sessionStorage
+   */
+  public Map<String, String> getSessionStorage() {
+    return sessionStorage;
+  }
+
+  /**
+   * @return time when the snapshot was taken, in milliseconds since epoch
+   */
+  public long getCapturedAt() {
+    return capturedAt;
+  }
+
+  @Override
+  public String toString() {
+    return "SessionSnapshot{" + origin + ", cookies: " + cookies.size() +
+        ", localStorage: " + localStorage.size() + ", sessionStorage: " + sessionStorage.size() + '}';
+  }
+}
@@ -109,7 +109,7 @@ public class WebDriverRunner {
    * </p>
    */
   public static void setWebDriver(WebDriver webDriver) {
-    webdriverContainer.setWebDriver(webDriver);
+    container().setWebDriver(webDriver);
   }
 
   /**
@@ -117,7 +117,7 @@ public class WebDriverRunner {
    * This can be used for any operations directly with WebDriver.
    */
   public static WebDriver getWebDriver() {
-    return webdriverContainer.getWebDriver();
+    return container().getWebDriver();
   }
 
   /**
@@ -134,7 +134,7 @@ public class WebDriverRunner {
    * @return new instance of WebDriver if the previous one has been closed meanwhile.
    */
   public static WebDriver getAndCheckWebDriver() {
-    return webdriverContainer.getAndCheckWebDriver();
+    return container().getAndCheckWebDriver();
   }
 
   /**
@@ -142,21 +142,66 @@ public class WebDriverRunner {
    * @return null if proxy server is not started
    */
   public static SelenideProxyServer getSelenideProxy() {
-    return webdriverContainer.getProxyServer();
+    return container().getProxyServer();
   }
 
   /**
    * Close the browser if it's open
    */
   public static void closeWebDriver() {
-    webdriverContainer.closeWebDriver();
+    container().closeWebDriver();
   }
 
   /**
-   * @return true iff instance of Selenium WebDriver is started in current thread
+   * Starts a browser in background thread, so that the first test doesn't wait for it.
+   * Call it right after Selenide is configured (browser, proxy etc.), e.g. in a static initializer of base test class.
+   *
+   * Every call starts one more browser: the first N threads that need webdriver will get these browsers.
+   */
+  public static void prewarm() {
+    webdriverContainer.prewarm();
+  }
+
+  /**
+   * Starts a new browser that is not bound to any thread.
+   * Use {@link BrowserSession#run(Runnable)} to run Selenide code in this browser.
+   *
+   * NB! You are responsible for closing the browser: {@link BrowserSession#closeWebDriver()}
+   *
+   * @throws IllegalStateException if {@link #webdriverContainer} is replaced by a container that cannot start sessions
+   */
+  public static BrowserSession startSession() {
+    if (!(webdriverContainer instanceof WebDriverThreadLocalContainer)) {
+      throw new IllegalStateException("Cannot start browser session: " + webdriverContainer.getClass().getName() +
+          " is not a " + WebDriverThreadLocalContainer.class.getName());
+    }
+    return ((WebDriverThreadLocalContainer) webdriverContainer).startSession();
+  }
+
+  /**
+   * Starts a new browser which tabs can be used as independent sessions.
+   * A tab needs much less memory than a separate browser.
+   *
+   * NB! You are responsible for closing the browser: {@link BrowserTabs#close()}
+   */
+  public static BrowserTabs startTabs() {
+    return new BrowserTabs(startSession());
+  }
+
+  /**
+   * @return container of the browser used by current code:
+   * either {@link BrowserSession#current()} or {@link #webdriverContainer}
+   */
+  static WebDriverContainer container() {
+    BrowserSession session = BrowserSession.current();
+    return session != null ? session : webdriverContainer;
+  }
+
+  /**
+   * @return true iff instance of Selenium WebDriver is started in current thread (or current {@link BrowserSession})
    */
   public static boolean hasWebDriverStarted() {
-    return webdriverContainer.hasWebDriverStarted();
+    return container().hasWebDriverStarted();
   }
 
   /**
@@ -254,27 +299,27 @@ public class WebDriverRunner {
    * Delete all the browser cookies
    */
   public static void clearBrowserCache() {
-    webdriverContainer.clearBrowserCache();
+    container().clearBrowserCache();
   }
 
   /**
    * @return the source (HTML) of current page
    */
   public static String source() {
-    return webdriverContainer.getPageSource();
+    return container().getPageSource();
   }
 
   /**
    * @return the URL of current page
    */
   public static String url() {
-    return webdriverContainer.getCurrentUrl();
+    return container().getCurrentUrl();
   }
 
   /**
    * @return the URL of current frame
    */
   public static String currentFrameUrl() {
-    return webdriverContainer.getCurrentFrameUrl();
+    return container().getCurrentFrameUrl();
   }
 }
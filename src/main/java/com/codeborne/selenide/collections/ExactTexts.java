@@ -4,6 +4,7 @@ import com.codeborne.selenide.CollectionCondition;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.TextsMismatch;
+import com.codeborne.selenide.impl.ElementsSnapshot;
 import com.codeborne.selenide.impl.Html;
 import com.codeborne.selenide.impl.WebElementsCollection;
 import org.openqa.selenium.WebElement;
@@ -33,10 +34,10 @@ public class ExactTexts extends CollectionCondition {
       return false;
     }
 
+    List<String> actualTexts = ElementsSnapshot.texts(elements);
     for (int i = 0; i < expectedTexts.size(); i++) {
-      WebElement element = elements.get(i);
       String expectedText = expectedTexts.get(i);
-      if (!Html.text.equals(element.getText(), expectedText)) {
+      if (!Html.text.equals(actualTexts.get(i), expectedText)) {
         return false;
       }
     }
@@ -1,5 +1,6 @@
 package com.codeborne.selenide.collections;
 
+import com.codeborne.selenide.impl.ElementsSnapshot;
 import com.codeborne.selenide.impl.Html;
 import org.openqa.selenium.WebElement;
 
@@ -20,10 +21,10 @@ public class Texts extends ExactTexts {
       return false;
     }
 
+    List<String> actualTexts = ElementsSnapshot.texts(elements);
     for (int i = 0; i < expectedTexts.size(); i++) {
-      WebElement element = elements.get(i);
       String expectedText = expectedTexts.get(i);
-      if (!Html.text.contains(element.getText(), expectedText)) {
+      if (!Html.text.contains(actualTexts.get(i), expectedText)) {
         return false;
       }
     }
@@ -1,5 +1,6 @@
 package com.codeborne.selenide.collections;
 
+import com.codeborne.selenide.impl.ElementsSnapshot;
 import com.codeborne.selenide.impl.Html;
 import org.openqa.selenium.WebElement;
 
@@ -20,11 +21,12 @@ public class TextsInAnyOrder extends ExactTexts {
       return false;
     }
 
+    List<String> actualTexts = ElementsSnapshot.texts(elements);
     for (int i = 0; i < expectedTexts.size(); i++) {
       String expectedText = expectedTexts.get(i);
       boolean bFound = false;
-      for (WebElement element: elements) {
-        if (Html.text.contains(element.getText(), expectedText)) {
+      for (String actualText : actualTexts) {
+        if (Html.text.contains(actualText, expectedText)) {
           bFound = true;
         }
       }
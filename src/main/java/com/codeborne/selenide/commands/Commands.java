@@ -7,22 +7,42 @@ import com.codeborne.selenide.impl.WebElementSource;
 import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Commands {
-  private static Commands collection;
-
-  private final Map<String, Command> commands = new ConcurrentHashMap<>(128);
-
-  public static synchronized Commands getInstance() {
-    if (collection == null) {
-      collection = new Commands();
-      collection.resetDefaults();
+  private static volatile Commands collection;
+
+  private final Map<String, Command<?>> commands = new ConcurrentHashMap<>(128);
+  private final AtomicInteger version = new AtomicInteger();
+
+  public static Commands getInstance() {
+    Commands instance = collection;
+    if (instance == null) {
+      synchronized (Commands.class) {
+        instance = collection;
+        if (instance == null) {
+          instance = new Commands();
+          instance.resetDefaults();
+          collection = instance;
+        }
+      }
     }
-    return collection;
+    return instance;
   }
 
+  /**
+   * Replaces all commands by default ones.
+   * Default commands are never missing in between, and the version is changed after all commands are replaced.
+   */
   public final synchronized void resetDefaults() {
-    commands.clear();
+    Commands defaults = new Commands();
+    defaults.addDefaults();
+    commands.putAll(defaults.commands);
+    commands.keySet().retainAll(defaults.commands.keySet());
+    version.incrementAndGet();
+  }
+
+  private void addDefaults() {
     addFindCommands();
     addClickCommands();
     addModifyCommands();
@@ -130,14 +150,29 @@ public class Commands {
     add("waitUntil", new ShouldBe());
   }
 
-  public void add(String method, Command command) {
+  public void add(String method, Command<?> command) {
     commands.put(method, command);
+    version.incrementAndGet();
+  }
+
+  /**
+   * @return command for given method name, or null if there is no such command
+   */
+  public Command<?> get(String method) {
+    return commands.get(method);
+  }
+
+  /**
+   * Changes every time when commands are added or reset, so that callers can cache commands returned by {@link #get(String)}.
+   */
+  public int version() {
+    return version.get();
   }
 
   @SuppressWarnings("unchecked")
   public <T> T execute(Object proxy, WebElementSource webElementSource, String methodName, Object[] args)
       throws IOException {
-    Command command = commands.get(methodName);
+    Command<?> command = commands.get(methodName);
     if (command == null) {
       throw new IllegalArgumentException("Unknown Selenide method: " + methodName);
     }
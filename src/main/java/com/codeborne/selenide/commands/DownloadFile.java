@@ -13,7 +13,7 @@ import java.io.IOException;
 import java.util.logging.Logger;
 
 import static com.codeborne.selenide.Configuration.FileDownloadMode.HTTPGET;
-import static com.codeborne.selenide.WebDriverRunner.webdriverContainer;
+import static com.codeborne.selenide.WebDriverRunner.getSelenideProxy;
 
 public class DownloadFile implements Command<File> {
   private static final Logger LOG = Logger.getLogger(DownloadFile.class.getName());
@@ -28,12 +28,12 @@ public class DownloadFile implements Command<File> {
       LOG.config("selenide.fileDownload = " + System.getProperty("selenide.fileDownload") + " download file via http get");
       return downloadFileWithHttpRequest.download(link);
     }
-    else if (webdriverContainer.getProxyServer() == null) {
+    else if (getSelenideProxy() == null) {
       LOG.config("Proxy server is not started - download file via http get");
       return downloadFileWithHttpRequest.download(link);
     }
     else {
-      return downloadFileWithProxyServer.download(linkWithHref, link, webdriverContainer.getProxyServer());
+      return downloadFileWithProxyServer.download(linkWithHref, link, getSelenideProxy());
     }
   }
 }
@@ -31,6 +31,9 @@ public class Should implements Command<SelenideElement> {
   }
 
   protected void should(WebElementSource locator, String message, List<Condition> conditions) {
+    if (conditions.size() > 1 && locator.matchesInBrowser(conditions)) {
+      return;
+    }
     for (Condition condition : conditions) {
       locator.checkCondition(prefix, message, condition, false);
     }
@@ -7,6 +7,8 @@ import org.openqa.selenium.support.ui.Select;
 
 import java.util.List;
 
+import static java.util.Arrays.asList;
+
 public class Text extends Condition {
   protected final String text;
   public Text(final String text) {
@@ -31,6 +33,11 @@ public class Text extends Condition {
     return sb.toString();
   }
 
+  @Override
+  public List<?> compileToJs() {
+    return asList("text", text);
+  }
+
   @Override
   public String toString() {
     return name + " '" + text + '\'';
@@ -0,0 +1,71 @@
+package com.codeborne.selenide.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Remembers how long it usually takes for every subject (e.g. selector) to settle,
+ * and sleeps right until that moment before the second attempt.
+ * If the condition is still not met, falls back to exponential backoff.
+ *
+ * Settle times are learned within the current JVM run only.
+ */
+public class AdaptivePollingStrategy extends ExponentialPollingStrategy {
+  static final int MAX_SUBJECTS = 10_000;
+
+  final Map<String, Long> settleTimes = new ConcurrentHashMap<>();
+
+  @Override
+  public Polling start(String subject, long timeoutMs, long pollingIntervalMs) {
+    return new AdaptivePolling(subject, currentTimeMillis(), timeoutMs,
+        initialDelay(pollingIntervalMs), maxDelay(pollingIntervalMs));
+  }
+
+  void learn(String subject, long settleTime) {
+    if (settleTimes.size() >= MAX_SUBJECTS && !settleTimes.containsKey(subject)) {
+      settleTimes.clear();
+    }
+    settleTimes.merge(subject, settleTime, (previous, latest) -> (previous * 3 + latest) / 4);
+  }
+
+  Long settleTime(String subject) {
+    return settleTimes.get(subject);
+  }
+
+  class AdaptivePolling extends ExponentialPolling {
+    private final String subject;
+    private final long initialDelay;
+    private final long maxDelay;
+    private boolean firstDelay = true;
+
+    AdaptivePolling(String subject, long startTime, long timeoutMs, long initialDelay, long maxDelay) {
+      super(startTime, timeoutMs, initialDelay, maxDelay);
+      this.subject = subject;
+      this.initialDelay = initialDelay;
+      this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public long nextDelay() {
+      if (firstDelay) {
+        firstDelay = false;
+        Long expectedSettleTime = subject == null ? null : settleTime(subject);
+        if (expectedSettleTime != null) {
+          long elapsed = currentTimeMillis() - startTime;
+          return untilTimeout(min(maxDelay, max(initialDelay, expectedSettleTime - elapsed)));
+        }
+      }
+      return super.nextDelay();
+    }
+
+    @Override
+    public void succeeded() {
+      if (subject != null) {
+        learn(subject, currentTimeMillis() - startTime);
+      }
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.codeborne.selenide.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.Configuration.closeBrowserTimeoutMs;
+import static com.codeborne.selenide.impl.WebDriverThreadLocalContainer.daemonThreads;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Closes browsers by a limited number of background threads and keeps track of closings in progress.
+ * Before JVM exit, waits for all of them (but not longer than {@link com.codeborne.selenide.Configuration#closeBrowserTimeoutMs}).
+ */
+class BackgroundCloser {
+  private static final Logger log = Logger.getLogger(BackgroundCloser.class.getName());
+
+  private final int threads;
+  private final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+  private ThreadPoolExecutor executor;
+
+  BackgroundCloser(int threads) {
+    this.threads = threads;
+  }
+
+  void close(Runnable closeBrowser, String description) {
+    CompletableFuture<Void> close = new CompletableFuture<>();
+    pending.add(close);
+    executor().execute(() -> {
+      try {
+        closeBrowser.run();
+        log.info("Closed " + description + " in background");
+      }
+      catch (RuntimeException e) {
+        log.log(SEVERE, "Failed to close " + description + " in background", e);
+      }
+      finally {
+        pending.remove(close);
+        close.complete(null);
+      }
+    });
+  }
+
+  private synchronized ThreadPoolExecutor executor() {
+    if (executor == null) {
+      executor = new ThreadPoolExecutor(threads, threads, 10, SECONDS, new LinkedBlockingQueue<>(), daemonThreads("Webdriver closer"));
+      executor.allowCoreThreadTimeOut(true);
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> waitForPending(closeBrowserTimeoutMs), "Webdriver closer shutdown"));
+    }
+    return executor;
+  }
+
+  /**
+   * Runs all given closes in parallel, each in its own thread, and waits for them, but not longer than {@code timeoutMs} in total.
+   * Used before JVM exit, so that closing N browsers doesn't take N times longer than closing one browser.
+   */
+  static void closeAll(List<Runnable> closes, long timeoutMs) {
+    List<Thread> closers = new ArrayList<>(closes.size());
+    for (Runnable close : closes) {
+      Thread closer = new ClosingAllThread(close);
+      closer.start();
+      closers.add(closer);
+    }
+
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    for (Thread closer : closers) {
+      try {
+        closer.join(Math.max(1, deadline - System.currentTimeMillis()));
+      }
+      catch (InterruptedException e) {
+        currentThread().interrupt();
+        break;
+      }
+    }
+
+    long notClosed = closers.stream().filter(Thread::isAlive).count();
+    if (notClosed > 0) {
+      log.severe("Failed to close " + notClosed + " browsers in " + timeoutMs + " milliseconds");
+    }
+  }
+
+  /**
+   * @return true iff current code is run by {@link #closeAll(List, long)}
+   */
+  static boolean isClosingAll() {
+    return currentThread() instanceof ClosingAllThread;
+  }
+
+  private static class ClosingAllThread extends Thread {
+    ClosingAllThread(Runnable close) {
+      super(close, "Webdriver final closer");
+      setDaemon(true);
+    }
+  }
+
+  int pending() {
+    return pending.size();
+  }
+
+  void waitForPending(long timeoutMs) {
+    CompletableFuture<?>[] closes = pending.toArray(new CompletableFuture<?>[0]);
+    if (closes.length == 0) return;
+
+    log.info("Waiting for " + closes.length + " browsers to close");
+    try {
+      CompletableFuture.allOf(closes).get(timeoutMs, MILLISECONDS);
+    }
+    catch (TimeoutException e) {
+      log.severe("Failed to close " + pending.size() + " browsers in " + timeoutMs + " milliseconds");
+    }
+    catch (InterruptedException e) {
+      currentThread().interrupt();
+    }
+    catch (ExecutionException ignore) {
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.codeborne.selenide.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.impl.WebDriverThreadLocalContainer.daemonThreads;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Writes files by a limited number of background threads.
+ *
+ * The queue of files is bounded: if it's full, the file is written by the calling thread (back-pressure).
+ * Before JVM exit, waits until all files are written.
+ */
+class BackgroundWriter {
+  private static final Logger log = Logger.getLogger(BackgroundWriter.class.getName());
+  private static final long FLUSH_TIMEOUT_MS = 30_000;
+
+  interface Write {
+    void write(File targetFile) throws IOException;
+  }
+
+  private final int threads;
+  private final int queueSize;
+  private final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+  private ThreadPoolExecutor executor;
+
+  BackgroundWriter(int threads, int queueSize) {
+    this.threads = threads;
+    this.queueSize = queueSize;
+  }
+
+  void write(File targetFile, Write write) {
+    CompletableFuture<Void> task = new CompletableFuture<>();
+    pending.add(task);
+    executor().execute(() -> {
+      try {
+        write.write(targetFile);
+      }
+      catch (IOException | RuntimeException e) {
+        log.log(SEVERE, "Failed to write file " + targetFile.getAbsolutePath(), e);
+      }
+      finally {
+        pending.remove(task);
+        task.complete(null);
+      }
+    });
+  }
+
+  private synchronized ThreadPoolExecutor executor() {
+    if (executor == null) {
+      executor = new ThreadPoolExecutor(threads, threads, 10, SECONDS, new LinkedBlockingQueue<>(queueSize),
+          daemonThreads("Screenshots writer"), new ThreadPoolExecutor.CallerRunsPolicy());
+      executor.allowCoreThreadTimeOut(true);
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> waitForPending(FLUSH_TIMEOUT_MS), "Screenshots writer shutdown"));
+    }
+    return executor;
+  }
+
+  int pending() {
+    return pending.size();
+  }
+
+  void waitForPending(long timeoutMs) {
+    CompletableFuture<?>[] writes = pending.toArray(new CompletableFuture<?>[0]);
+    if (writes.length == 0) return;
+
+    log.fine("Waiting for " + writes.length + " files to be written");
+    try {
+      CompletableFuture.allOf(writes).get(timeoutMs, MILLISECONDS);
+    }
+    catch (TimeoutException e) {
+      log.severe("Failed to write " + pending.size() + " files in " + timeoutMs + " milliseconds");
+    }
+    catch (InterruptedException e) {
+      currentThread().interrupt();
+    }
+    catch (ExecutionException ignore) {
+    }
+  }
+}
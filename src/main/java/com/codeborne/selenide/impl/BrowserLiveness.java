@@ -0,0 +1,120 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * Remembers when browsers successfully executed their last commands,
+ * so that a browser which has just been working is not pinged once more to check if it's alive.
+ */
+class BrowserLiveness {
+  private final Map<WebDriver, Tracker> trackers = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Starts tracking commands executed by given browser.
+   */
+  void track(EventFiringWebDriver webDriver) {
+    Tracker tracker = new Tracker();
+    webDriver.register(tracker);
+    trackers.put(webDriver, tracker);
+  }
+
+  /**
+   * @return true if given browser successfully executed some command during last {@code intervalMs} milliseconds
+   */
+  boolean isRecentlyAlive(WebDriver webDriver, long intervalMs) {
+    Tracker tracker = trackers.get(webDriver);
+    return tracker != null && currentTimeMillis() - tracker.lastActivity < intervalMs;
+  }
+
+  void alive(WebDriver webDriver) {
+    Tracker tracker = trackers.get(webDriver);
+    if (tracker != null) {
+      tracker.alive();
+    }
+  }
+
+  static class Tracker extends AbstractWebDriverEventListener {
+    private volatile long lastActivity;
+
+    void alive() {
+      lastActivity = currentTimeMillis();
+    }
+
+    @Override
+    public void afterNavigateTo(String url, WebDriver driver) {
+      alive();
+    }
+
+    @Override
+    public void afterNavigateBack(WebDriver driver) {
+      alive();
+    }
+
+    @Override
+    public void afterNavigateForward(WebDriver driver) {
+      alive();
+    }
+
+    @Override
+    public void afterNavigateRefresh(WebDriver driver) {
+      alive();
+    }
+
+    @Override
+    public void afterFindBy(By by, WebElement element, WebDriver driver) {
+      alive();
+    }
+
+    @Override
+    public void afterClickOn(WebElement element, WebDriver driver) {
+      alive();
+    }
+
+    @Override
+    public void afterChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend) {
+      alive();
+    }
+
+    @Override
+    public void afterScript(String script, WebDriver driver) {
+      alive();
+    }
+
+    @Override
+    public void afterSwitchToWindow(String windowName, WebDriver driver) {
+      alive();
+    }
+
+    @Override
+    public <X> void afterGetScreenshotAs(OutputType<X> target, X screenshot) {
+      alive();
+    }
+
+    /**
+     * Missing or stale elements are normal answers of a working browser.
+     * Any other error means that browser should be checked before the next page is opened.
+     */
+    @Override
+    public void onException(Throwable throwable, WebDriver driver) {
+      if (throwable instanceof NoSuchElementException || throwable instanceof StaleElementReferenceException) {
+        alive();
+      }
+      else {
+        lastActivity = 0;
+      }
+    }
+  }
+}
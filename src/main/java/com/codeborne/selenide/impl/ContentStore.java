@@ -0,0 +1,87 @@
+package com.codeborne.selenide.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Stores every unique content only once, in a file named by SHA-256 of the content.
+ * Requested files are hard links to the stored file, or copies if hard links are not supported.
+ */
+class ContentStore {
+  private static final Logger log = Logger.getLogger(ContentStore.class.getName());
+  static final String FOLDER = "content-store";
+
+  private final AtomicLong duplicates = new AtomicLong();
+  private volatile boolean linksSupported = true;
+
+  /**
+   * @param folder folder of the store, should be on the same file system as target file
+   */
+  void write(byte[] content, File folder, File targetFile) throws IOException {
+    String name = targetFile.getName();
+    String extension = name.contains(".") ? name.substring(name.lastIndexOf('.')) : "";
+    Path stored = new File(folder, sha256(content) + extension).toPath();
+
+    if (Files.exists(stored)) {
+      duplicates.incrementAndGet();
+    }
+    else {
+      Files.createDirectories(stored.getParent());
+      Path temp = Files.createTempFile(stored.getParent(), "content", extension);
+      Files.write(temp, content);
+      Files.move(temp, stored, ATOMIC_MOVE, REPLACE_EXISTING);
+    }
+
+    Path target = targetFile.toPath();
+    Files.deleteIfExists(target);
+    if (linksSupported) {
+      try {
+        createLink(target, stored);
+        return;
+      }
+      catch (UnsupportedOperationException | FileSystemException e) {
+        log.info("Cannot create hard links in " + folder + ", files will be copied: " + e);
+        linksSupported = false;
+      }
+      catch (IOException e) {
+        log.fine("Failed to create hard link " + target + ", the file will be copied: " + e);
+      }
+    }
+    Files.copy(stored, target, REPLACE_EXISTING);
+  }
+
+  void createLink(Path link, Path existing) throws IOException {
+    Files.createLink(link, existing);
+  }
+
+  /**
+   * @return number of written files which content was already stored
+   */
+  long duplicates() {
+    return duplicates.get();
+  }
+
+  private static String sha256(byte[] content) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+      StringBuilder hex = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        hex.append(String.format("%02x", b));
+      }
+      return hex.toString();
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -7,6 +7,9 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -14,14 +17,19 @@ import java.util.TreeMap;
 import static com.codeborne.selenide.Selenide.executeJavaScript;
 import static com.codeborne.selenide.WebDriverRunner.isHtmlUnit;
 import static com.codeborne.selenide.WebDriverRunner.supportsJavascript;
+import static java.util.Collections.singletonList;
 
 public class Describe {
   private WebElement element;
   private StringBuilder sb = new StringBuilder();
 
   private Describe(WebElement element) {
+    this(element, element.getTagName());
+  }
+
+  private Describe(WebElement element, String tagName) {
     this.element = element;
-    sb.append('<').append(element.getTagName());
+    sb.append('<').append(tagName);
   }
 
   private Describe appendAttributes() {
@@ -104,6 +112,10 @@ public class Describe {
       if (element == null) {
         return "null";
       }
+      List<String> describedInBrowser = describeInBrowser(singletonList(element));
+      if (describedInBrowser != null) {
+        return describedInBrowser.get(0);
+      }
       return new Describe(element)
           .appendAttributes()
           .isSelected(element)
@@ -117,6 +129,69 @@ public class Describe {
     }
   }
 
+  /**
+   * Describes all given elements (tag, attributes, text and visibility) by a single JavaScript call.
+   * Works only if {@link com.codeborne.selenide.Configuration#checkConditionsInBrowser} is enabled.
+   *
+   * @return descriptions in the same order as elements, or null if they cannot be fetched by JavaScript
+   */
+  public static List<String> describeInBrowser(Collection<? extends WebElement> elements) {
+    if (!JsConditions.instance.isEnabled() || isHtmlUnit()) {
+      return null;
+    }
+    for (WebElement element : elements) {
+      if (element == null || element instanceof SelenideElement) {
+        return null;
+      }
+    }
+
+    List<List<Object>> rows;
+    try {
+      rows = executeJavaScript(Scripts.withHelpers("describe.js"), new ArrayList<>(elements));
+    }
+    catch (WebDriverException | UnsupportedOperationException e) {
+      return null;
+    }
+    if (rows == null || rows.size() != elements.size()) {
+      return null;
+    }
+
+    List<String> descriptions = new ArrayList<>(rows.size());
+    for (List<Object> row : rows) {
+      descriptions.add(describe(row));
+    }
+    return descriptions;
+  }
+
+  /**
+   * @param row [tagName, {attribute: value}, text, selected, displayed] as returned by describe.js
+   */
+  @SuppressWarnings("unchecked")
+  private static String describe(List<Object> row) {
+    String tagName = (String) row.get(0);
+    Describe describe = new Describe(null, tagName);
+
+    SortedMap<String, String> sortedByName = new TreeMap<>();
+    Map<String, Object> attributes = (Map<String, Object>) row.get(1);
+    if (attributes != null) {
+      for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+        sortedByName.put(entry.getKey(), entry.getValue() == null ? null : entry.getValue().toString());
+      }
+    }
+    for (Map.Entry<String, String> entry : sortedByName.entrySet()) {
+      describe.attr(entry.getKey(), entry.getValue());
+    }
+
+    if (Boolean.TRUE.equals(row.get(3))) {
+      describe.sb.append(' ').append("selected:true");
+    }
+    if (!Boolean.TRUE.equals(row.get(4))) {
+      describe.sb.append(' ').append("displayed:false");
+    }
+    String text = (String) row.get(2);
+    return describe.sb.append('>').append(text == null ? "" : text).append("</").append(tagName).append('>').toString();
+  }
+
   static String shortly(WebElement element) {
     try {
       if (element == null) {
@@ -0,0 +1,148 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
+import static com.codeborne.selenide.WebDriverRunner.supportsJavascript;
+import static java.lang.Math.max;
+import static java.util.logging.Level.FINE;
+
+/**
+ * Instead of sleeping, blocks on a single asynchronous script until the page DOM changes
+ * (detected by browser-side {@code MutationObserver}), so conditions are re-checked only when something has changed.
+ * Mutations are observed since the start of waiting (before the first check of condition), so changes made
+ * between the first check and the first wait are not missed.
+ *
+ * Some changes are not visible to {@code MutationObserver} (e.g. CSS animations), that's why waiting for mutations
+ * is limited by 10 polling intervals.
+ * On pages that change all the time (clocks, spinners), conditions are still checked
+ * not more often than once per polling interval.
+ *
+ * If browser cannot execute asynchronous scripts (or its script timeout is too short), falls back to exponential backoff.
+ * Script timeout of webdriver is never changed.
+ */
+public class DomMutationPollingStrategy extends ExponentialPollingStrategy {
+  private static final Logger log = Logger.getLogger(DomMutationPollingStrategy.class.getName());
+
+  static final int MAX_MUTATION_WAIT_MULTIPLIER = 10;
+
+  private static final String OBSERVE_MUTATIONS_JS =
+      "if (!window._selenide_mutations) {\n" +
+      "  window._selenide_mutations = {count: 0, listeners: []};\n" +
+      "  new MutationObserver(function() {\n" +
+      "    var m = window._selenide_mutations;\n" +
+      "    m.count++;\n" +
+      "    var listeners = m.listeners;\n" +
+      "    m.listeners = [];\n" +
+      "    for (var i = 0; i < listeners.length; i++) listeners[i]();\n" +
+      "  }).observe(document, {childList: true, subtree: true, attributes: true, characterData: true});\n" +
+      "}\n";
+
+  static final String COUNT_MUTATIONS_JS = OBSERVE_MUTATIONS_JS +
+      "return window._selenide_mutations.count;\n";
+
+  static final String WAIT_FOR_MUTATIONS_JS =
+      "var callback = arguments[arguments.length - 1];\n" +
+      "var timeoutMs = arguments[0], seenMutations = arguments[1];\n" +
+      "var newPage = !window._selenide_mutations;\n" +
+      OBSERVE_MUTATIONS_JS +
+      "var mutations = window._selenide_mutations;\n" +
+      "if (newPage || (seenMutations >= 0 && mutations.count != seenMutations)) {\n" +
+      "  callback(mutations.count);\n" +
+      "  return;\n" +
+      "}\n" +
+      "var done = false;\n" +
+      "var finish = function() {\n" +
+      "  if (!done) {\n" +
+      "    done = true;\n" +
+      "    callback(window._selenide_mutations ? window._selenide_mutations.count : -1);\n" +
+      "  }\n" +
+      "};\n" +
+      "mutations.listeners.push(finish);\n" +
+      "setTimeout(finish, timeoutMs);\n";
+
+  @Override
+  public Polling start(String subject, long timeoutMs, long pollingIntervalMs) {
+    return new DomMutationPolling(currentTimeMillis(), timeoutMs, initialDelay(pollingIntervalMs), maxDelay(pollingIntervalMs),
+        pollingIntervalMs, pollingIntervalMs * MAX_MUTATION_WAIT_MULTIPLIER);
+  }
+
+  boolean canWaitForMutations() {
+    return supportsJavascript();
+  }
+
+  /**
+   * Starts observing DOM mutations on the current page (if not started yet).
+   *
+   * @return number of DOM mutations registered so far on the current page
+   */
+  long countMutations() {
+    Object mutations = ((JavascriptExecutor) getWebDriver()).executeScript(COUNT_MUTATIONS_JS);
+    return mutations instanceof Number ? ((Number) mutations).longValue() : -1;
+  }
+
+  /**
+   * Returns immediately if the page has changed since {@code seenMutations} was returned
+   * (or if it's a new page which has not been observed yet).
+   *
+   * @return number of DOM mutations registered so far on the current page
+   */
+  long waitForMutations(long maxWaitMs, long seenMutations) {
+    Object mutations = ((JavascriptExecutor) getWebDriver()).executeAsyncScript(WAIT_FOR_MUTATIONS_JS, maxWaitMs, seenMutations);
+    return mutations instanceof Number ? ((Number) mutations).longValue() : -1;
+  }
+
+  class DomMutationPolling extends ExponentialPolling {
+    private final long minDelay;
+    private final long maxMutationWaitMs;
+    private long seenMutations = -1;
+    private boolean mutationsSupported = true;
+
+    DomMutationPolling(long startTime, long timeoutMs, long initialDelay, long maxDelay, long minDelay, long maxMutationWaitMs) {
+      super(startTime, timeoutMs, initialDelay, maxDelay);
+      this.minDelay = minDelay;
+      this.maxMutationWaitMs = maxMutationWaitMs;
+      if (canWaitForMutations()) {
+        // before the first check of condition, otherwise changes made before the first wait would be missed
+        observeMutations();
+      }
+    }
+
+    private void observeMutations() {
+      try {
+        seenMutations = countMutations();
+      }
+      catch (UnsupportedOperationException | WebDriverException e) {
+        log.log(FINE, "Cannot observe DOM mutations, fallback to polling", e);
+        mutationsSupported = false;
+      }
+    }
+
+    @Override
+    public long nextDelay() {
+      if (!mutationsSupported || !canWaitForMutations()) {
+        return super.nextDelay();
+      }
+
+      long maxWaitMs = untilTimeout(maxMutationWaitMs);
+      if (maxWaitMs <= 0) {
+        return 0;
+      }
+
+      try {
+        long waitStart = currentTimeMillis();
+        seenMutations = waitForMutations(maxWaitMs, seenMutations);
+        long waited = currentTimeMillis() - waitStart;
+        return untilTimeout(max(0, minDelay - waited));
+      }
+      catch (UnsupportedOperationException | WebDriverException e) {
+        log.log(FINE, "Cannot wait for DOM mutations, fallback to polling", e);
+        mutationsSupported = false;
+        return super.nextDelay();
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import org.openqa.selenium.By;
@@ -9,12 +10,14 @@ import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
 
 import java.lang.reflect.Proxy;
+import java.util.LinkedList;
 import java.util.List;
 
 import static com.codeborne.selenide.Condition.exist;
 import static com.codeborne.selenide.Selenide.$;
 import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
 import static java.lang.Thread.currentThread;
+import static java.util.Collections.singletonList;
 
 public class ElementFinder extends WebElementSource {
   public static SelenideElement wrap(By criteria) {
@@ -36,6 +39,7 @@ public class ElementFinder extends WebElementSource {
   private final SearchContext parent;
   private final By criteria;
   private final int index;
+  private volatile ElementsCache.CachedElement cachedElement;
 
   ElementFinder(SearchContext parent, By criteria, int index) {
     this.parent = parent;
@@ -52,27 +56,95 @@ public class ElementFinder extends WebElementSource {
 
   @Override
   public WebElement getWebElement() throws NoSuchElementException, IndexOutOfBoundsException {
+    if (!ElementsCache.instance.isEnabled()) {
+      return findWebElement();
+    }
+
+    WebElement element = ElementsCache.instance.get(cachedElement);
+    if (element == null) {
+      element = findWebElement();
+      cachedElement = element == null ? null : ElementsCache.instance.cache(element);
+    }
+    return element;
+  }
+
+  private WebElement findWebElement() {
+    Chain chain = flatten();
     return index == 0 ?
-        WebElementSelector.instance.findElement(getSearchContext(), criteria) :
-        WebElementSelector.instance.findElements(getSearchContext(), criteria).get(index);
+        WebElementSelector.instance.findElement(chain.getSearchContext(), chain.criteria) :
+        WebElementSelector.instance.findElements(chain.getSearchContext(), chain.criteria).get(index);
   }
 
   @Override
   public List<WebElement> findAll() throws NoSuchElementException, IndexOutOfBoundsException {
-    return index == 0 ?
-        WebElementSelector.instance.findElements(getSearchContext(), criteria) :
-        super.findAll();
+    if (index != 0) {
+      return super.findAll();
+    }
+    Chain chain = flatten();
+    return WebElementSelector.instance.findElements(chain.getSearchContext(), chain.criteria);
+  }
+
+  @Override
+  protected List<Object> getJsLocator() {
+    Chain chain = flatten();
+    return JsConditions.instance.locator(chain.getSearchContext(), chain.criteria, index);
+  }
+
+  /**
+   * Collapses parents like {@code $("#a").$x(...).$x(...)} into a single selector (see {@link SelectorChain}),
+   * so that parents are not searched one by one.
+   * If element is not found, {@link #createElementNotFoundError} still checks every parent separately.
+   */
+  Chain flatten() {
+    Chain chain = new Chain(parent, criteria);
+    if (!Configuration.flattenSelectors) return chain;
+
+    LinkedList<By> selectors = new LinkedList<>(singletonList(criteria));
+    while (chain.parent instanceof SelenideElement) {
+      ElementFinder parentFinder = finderOf(chain.parent);
+      if (parentFinder == null || parentFinder.index != 0) break;
+
+      selectors.addFirst(parentFinder.criteria);
+      By combined = SelectorChain.combine(selectors);
+      if (combined == null) break;
+      chain = new Chain(parentFinder.parent, combined);
+    }
+    return chain;
   }
 
-  private SearchContext getSearchContext() {
-    return parent == null ? getWebDriver() :
-        (parent instanceof SelenideElement) ? ((SelenideElement) parent).toWebElement() :
-        parent;
+  private static ElementFinder finderOf(SearchContext element) {
+    WebElementSource source = sourceOf(element);
+    return source instanceof ElementFinder ? (ElementFinder) source : null;
+  }
+
+  private static WebElementSource sourceOf(SearchContext element) {
+    if (!Proxy.isProxyClass(element.getClass())) return null;
+    Object handler = Proxy.getInvocationHandler(element);
+    return handler instanceof SelenideElementProxy ? ((SelenideElementProxy) handler).getWebElementSource() : null;
+  }
+
+  static class Chain {
+    final SearchContext parent;
+    final By criteria;
+
+    Chain(SearchContext parent, By criteria) {
+      this.parent = parent;
+      this.criteria = criteria;
+    }
+
+    SearchContext getSearchContext() {
+      return parent == null ? getWebDriver() :
+          (parent instanceof SelenideElement) ? ((SelenideElement) parent).toWebElement() :
+          parent;
+    }
   }
 
   @Override
   public ElementNotFound createElementNotFoundError(Condition condition, Throwable lastError) {
-    if (parent instanceof SelenideElement) {
+    if (Configuration.fastFailureDiagnostics && parent instanceof WebElement) {
+      checkParentExistsNow();
+    }
+    else if (parent instanceof SelenideElement) {
       ((SelenideElement) parent).should(exist);
     }
     else if (parent instanceof WebElement) {
@@ -82,6 +154,24 @@ public class ElementFinder extends WebElementSource {
     return super.createElementNotFoundError(condition, lastError);
   }
 
+  /**
+   * Same as {@code parent.should(exist)}, but checks the parent only once instead of waiting for it.
+   * If parent is not found, it reports its own parent in the same way, and so on.
+   */
+  private void checkParentExistsNow() {
+    WebElementSource parentSource = sourceOf(parent);
+    if (parentSource == null && !(parent instanceof SelenideElement)) {
+      parentSource = new WebElementWrapper((WebElement) parent);
+    }
+
+    if (parentSource != null) {
+      parentSource.checkCondition("", null, exist, false);
+    }
+    else {
+      ((SelenideElement) parent).should(exist);
+    }
+  }
+
   @Override
   public String getSearchCriteria() {
     return index == 0 ? 
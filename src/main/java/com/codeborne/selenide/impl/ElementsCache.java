@@ -0,0 +1,100 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
+
+/**
+ * Keeps track of cached web elements (see {@link Configuration#cacheElements}).
+ *
+ * Cached element is reused until it gets stale or the page is reloaded/navigated/switched.
+ */
+public class ElementsCache {
+  public static ElementsCache instance = new ElementsCache();
+
+  private final Map<WebDriver, Long> pageVersions = new WeakHashMap<>();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public static class CachedElement {
+    final WebElement element;
+    final WebDriver webDriver;
+    final long pageVersion;
+
+    CachedElement(WebElement element, WebDriver webDriver, long pageVersion) {
+      this.element = element;
+      this.webDriver = webDriver;
+      this.pageVersion = pageVersion;
+    }
+  }
+
+  public boolean isEnabled() {
+    return Configuration.cacheElements;
+  }
+
+  /**
+   * Should be called on every navigation, page refresh, switching to other window or frame etc.
+   */
+  public void invalidate(WebDriver webDriver) {
+    synchronized (pageVersions) {
+      pageVersions.merge(webDriver, 1L, Long::sum);
+    }
+  }
+
+  long pageVersion(WebDriver webDriver) {
+    synchronized (pageVersions) {
+      return pageVersions.getOrDefault(webDriver, 0L);
+    }
+  }
+
+  public CachedElement cache(WebElement element) {
+    WebDriver webDriver = getWebDriver();
+    return new CachedElement(element, webDriver, pageVersion(webDriver));
+  }
+
+  /**
+   * @return cached element if it's still valid, or null otherwise
+   */
+  public WebElement get(CachedElement cached) {
+    if (cached != null && isValid(cached)) {
+      hits.incrementAndGet();
+      return cached.element;
+    }
+    misses.incrementAndGet();
+    return null;
+  }
+
+  private boolean isValid(CachedElement cached) {
+    WebDriver webDriver = getWebDriver();
+    if (cached.webDriver != webDriver || cached.pageVersion != pageVersion(webDriver)) {
+      return false;
+    }
+    try {
+      cached.element.isEnabled(); // check staleness
+      return true;
+    }
+    catch (WebDriverException e) {
+      return false;
+    }
+  }
+
+  public long hits() {
+    return hits.get();
+  }
+
+  public long misses() {
+    return misses.get();
+  }
+
+  public void resetCounters() {
+    hits.set(0);
+    misses.set(0);
+  }
+}
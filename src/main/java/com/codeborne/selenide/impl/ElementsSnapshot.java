@@ -0,0 +1,120 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.Selenide.executeJavaScript;
+import static java.util.Arrays.asList;
+
+/**
+ * Texts, visibility and (optionally) attributes of all collection elements fetched at once.
+ *
+ * If {@link com.codeborne.selenide.Configuration#checkConditionsInBrowser} is enabled,
+ * all the data is collected by a single JavaScript call instead of a few webdriver calls per element.
+ */
+public class ElementsSnapshot {
+  private final List<String> texts;
+  private final List<Boolean> visibility;
+  private final List<Map<String, String>> attributes;
+
+  ElementsSnapshot(List<String> texts, List<Boolean> visibility, List<Map<String, String>> attributes) {
+    this.texts = texts;
+    this.visibility = visibility;
+    this.attributes = attributes;
+  }
+
+  /**
+   * @param elements elements to take snapshot of
+   * @param attributeNames names of attributes to fetch (optional)
+   */
+  public static ElementsSnapshot of(List<WebElement> elements, String... attributeNames) {
+    if (elements.size() > 1 && JsConditions.instance.isEnabled()) {
+      return fetchInBrowser(elements, attributeNames);
+    }
+
+    List<String> texts = new ArrayList<>(elements.size());
+    List<Boolean> visibility = new ArrayList<>(elements.size());
+    List<Map<String, String>> attributes = new ArrayList<>(elements.size());
+    for (WebElement element : elements) {
+      texts.add(element.getText());
+      visibility.add(element.isDisplayed());
+      Map<String, String> elementAttributes = new HashMap<>();
+      for (String attributeName : attributeNames) {
+        elementAttributes.put(attributeName, element.getAttribute(attributeName));
+      }
+      attributes.add(elementAttributes);
+    }
+    return new ElementsSnapshot(texts, visibility, attributes);
+  }
+
+  /**
+   * Fetches only texts of given elements.
+   *
+   * If texts cannot be fetched by a single JavaScript call, returns a lazy list
+   * which requests text of every element only once and only when needed.
+   */
+  public static List<String> texts(List<WebElement> elements) {
+    if (elements.size() > 1 && JsConditions.instance.isEnabled()) {
+      return fetchInBrowser(elements).texts();
+    }
+    return new LazyTexts(elements);
+  }
+
+  private static class LazyTexts extends AbstractList<String> {
+    private final List<WebElement> elements;
+    private final String[] texts;
+
+    private LazyTexts(List<WebElement> elements) {
+      this.elements = elements;
+      this.texts = new String[elements.size()];
+    }
+
+    @Override
+    public String get(int index) {
+      if (texts[index] == null) {
+        texts[index] = elements.get(index).getText();
+      }
+      return texts[index];
+    }
+
+    @Override
+    public int size() {
+      return texts.length;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ElementsSnapshot fetchInBrowser(List<WebElement> elements, String... attributeNames) {
+    List<List<Object>> rows = executeJavaScript(Scripts.withHelpers("snapshot.js"), elements, asList(attributeNames));
+    List<String> texts = new ArrayList<>(rows.size());
+    List<Boolean> visibility = new ArrayList<>(rows.size());
+    List<Map<String, String>> attributes = new ArrayList<>(rows.size());
+    for (List<Object> row : rows) {
+      texts.add((String) row.get(0));
+      visibility.add(Boolean.TRUE.equals(row.get(1)));
+      attributes.add(row.get(2) == null ? new HashMap<>() : (Map<String, String>) row.get(2));
+    }
+    return new ElementsSnapshot(texts, visibility, attributes);
+  }
+
+  public int size() {
+    return texts.size();
+  }
+
+  public List<String> texts() {
+    return texts;
+  }
+
+  public List<Boolean> visibility() {
+    return visibility;
+  }
+
+  public String attribute(int index, String attributeName) {
+    return attributes.get(index).get(attributeName);
+  }
+}
@@ -0,0 +1,69 @@
+package com.codeborne.selenide.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Starts with short delays (so that fast pages are checked again almost immediately)
+ * and doubles the delay after every failed attempt (so that slow pages are not bombarded with useless requests).
+ *
+ * Delay starts from 1/10 of polling interval and grows up to 4 polling intervals.
+ * Every delay gets a random jitter to avoid lockstep polling from parallel threads.
+ */
+public class ExponentialPollingStrategy implements PollingStrategy {
+  static final int INITIAL_DELAY_DIVIDER = 10;
+  static final int MAX_DELAY_MULTIPLIER = 4;
+
+  @Override
+  public Polling start(String subject, long timeoutMs, long pollingIntervalMs) {
+    return new ExponentialPolling(currentTimeMillis(), timeoutMs, initialDelay(pollingIntervalMs), maxDelay(pollingIntervalMs));
+  }
+
+  static long initialDelay(long pollingIntervalMs) {
+    return max(1, pollingIntervalMs / INITIAL_DELAY_DIVIDER);
+  }
+
+  static long maxDelay(long pollingIntervalMs) {
+    return max(1, pollingIntervalMs * MAX_DELAY_MULTIPLIER);
+  }
+
+  long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+
+  long jitter(long delay) {
+    return delay < 2 ? delay : delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+  }
+
+  class ExponentialPolling implements Polling {
+    final long startTime;
+    private final long timeoutMs;
+    private final long maxDelay;
+    private long delay;
+
+    ExponentialPolling(long startTime, long timeoutMs, long initialDelay, long maxDelay) {
+      this.startTime = startTime;
+      this.timeoutMs = timeoutMs;
+      this.delay = initialDelay;
+      this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public long nextDelay() {
+      long result = jitter(delay);
+      delay = min(maxDelay, delay * 2);
+      return untilTimeout(result);
+    }
+
+    long untilTimeout(long delay) {
+      long remaining = startTime + timeoutMs - currentTimeMillis();
+      return max(0, min(delay, remaining));
+    }
+
+    @Override
+    public void succeeded() {
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.codeborne.selenide.impl;
+
+/**
+ * Sleeps for the same polling interval between all attempts (default Selenide behaviour).
+ */
+public class FixedPollingStrategy implements PollingStrategy {
+  @Override
+  public Polling start(String subject, long timeoutMs, long pollingIntervalMs) {
+    return new FixedPolling(pollingIntervalMs);
+  }
+
+  private static class FixedPolling implements Polling {
+    private final long pollingIntervalMs;
+
+    private FixedPolling(long pollingIntervalMs) {
+      this.pollingIntervalMs = pollingIntervalMs;
+    }
+
+    @Override
+    public long nextDelay() {
+      return pollingIntervalMs;
+    }
+
+    @Override
+    public void succeeded() {
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static com.codeborne.selenide.Configuration.SelectorMode.CSS;
+import static com.codeborne.selenide.Configuration.checkConditionsInBrowser;
+import static com.codeborne.selenide.Configuration.selectorMode;
+import static com.codeborne.selenide.Selenide.executeJavaScript;
+import static com.codeborne.selenide.WebDriverRunner.supportsJavascript;
+import static java.util.Arrays.asList;
+
+/**
+ * Finds element and checks conditions in browser with a single JavaScript call.
+ *
+ * Supports only conditions which can be compiled to JavaScript (see {@link Condition#compileToJs()})
+ * and only basic selectors (css, xpath, id, name, class name, tag name).
+ * In other cases returns null, and conditions are checked in Java.
+ */
+public class JsConditions {
+  public static JsConditions instance = new JsConditions();
+
+  public static class Result {
+    public final WebElement element;
+    public final boolean matches;
+
+    public Result(WebElement element, boolean matches) {
+      this.element = element;
+      this.matches = matches;
+    }
+  }
+
+  public boolean isEnabled() {
+    return checkConditionsInBrowser && supportsJavascript();
+  }
+
+  /**
+   * @return null if selector is not supported by JavaScript locator
+   */
+  public List<Object> locator(SearchContext context, By criteria, int index) {
+    String how = how(criteria);
+    if (how == null) {
+      return null;
+    }
+    String what = criteria.toString().substring(criteria.toString().indexOf(':') + 1).trim();
+    return asList(how, what, index, context instanceof WebElement ? context : null);
+  }
+
+  private String how(By criteria) {
+    Class<?> type = criteria.getClass();
+    if (type == By.ByCssSelector.class) return selectorMode == CSS ? "css" : null;
+    if (type == By.ByXPath.class) return "xpath";
+    if (type == By.ById.class) return "id";
+    if (type == By.ByName.class) return "name";
+    if (type == By.ByClassName.class) return "className";
+    if (type == By.ByTagName.class) return "tagName";
+    return null;
+  }
+
+  /**
+   * @return null if condition cannot be checked in browser
+   */
+  public Result check(List<Object> locator, Condition condition) {
+    List<?> compiled = condition.compileToJs();
+    if (compiled == null) {
+      return null;
+    }
+
+    List<?> result = executeJavaScript(getScript(), locator, compiled);
+    return result == null ?
+        new Result(null, false) :
+        new Result((WebElement) result.get(0), Boolean.TRUE.equals(result.get(1)));
+  }
+
+  protected String getScript() {
+    return Scripts.withHelpers("conditions.js");
+  }
+
+}
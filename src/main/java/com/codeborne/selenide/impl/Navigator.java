@@ -66,6 +66,7 @@ public class Navigator {
     SelenideLog log = SelenideLogger.beginStep("open", url);
     try {
       WebDriver webdriver = getAndCheckWebDriver();
+      ElementsCache.instance.invalidate(webdriver);
       webdriver.navigate().to(url);
       collectJavascriptErrors((JavascriptExecutor) webdriver);
       SelenideLogger.commitStep(log, PASS);
@@ -130,14 +131,20 @@ public class Navigator {
   }
 
   public void back() {
-    getWebDriver().navigate().back();
+    WebDriver webdriver = getWebDriver();
+    ElementsCache.instance.invalidate(webdriver);
+    webdriver.navigate().back();
   }
 
   public void forward() {
-    getWebDriver().navigate().forward();
+    WebDriver webdriver = getWebDriver();
+    ElementsCache.instance.invalidate(webdriver);
+    webdriver.navigate().forward();
   }
 
   public void refresh() {
-    getWebDriver().navigate().refresh();
+    WebDriver webdriver = getWebDriver();
+    ElementsCache.instance.invalidate(webdriver);
+    webdriver.navigate().refresh();
   }
 }
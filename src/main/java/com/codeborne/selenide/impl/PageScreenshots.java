@@ -0,0 +1,104 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Sources of element screenshots: either the browser itself (see {@link Configuration#nativeElementScreenshots}),
+ * or a screenshot of the whole page that is decoded only once inside of {@link #samePage(Runnable)}.
+ */
+class PageScreenshots {
+  private static final Logger log = Logger.getLogger(PageScreenshots.class.getName());
+
+  private final Map<WebDriver, Boolean> nativeScreenshotsUnsupported = Collections.synchronizedMap(new WeakHashMap<>());
+  private final ThreadLocal<PageImage> samePageImage = new ThreadLocal<>();
+
+  /**
+   * @return PNG image made by browser, or null if browser cannot take screenshots of elements
+   */
+  byte[] nativeScreenshot(WebDriver webdriver, WebElement element) {
+    if (!Configuration.nativeElementScreenshots) return null;
+    if (nativeScreenshotsUnsupported.containsKey(webdriver)) return null;
+
+    try {
+      byte[] screenshot = element.getScreenshotAs(OutputType.BYTES);
+      if (screenshot == null) {
+        nativeScreenshotsUnsupported.put(webdriver, true);
+      }
+      return screenshot;
+    }
+    catch (UnsupportedCommandException | UnsupportedOperationException e) {
+      log.fine("Browser doesn't support screenshots of elements: " + e);
+      nativeScreenshotsUnsupported.put(webdriver, true);
+      return null;
+    }
+    catch (WebDriverException e) {
+      log.fine("Failed to take screenshot of element: " + Cleanup.of.webdriverExceptionMessage(e));
+      return null;
+    }
+  }
+
+  /**
+   * @return image made by browser, or null if browser cannot take screenshots of elements
+   */
+  BufferedImage nativeImage(WebDriver webdriver, WebElement element) throws IOException {
+    byte[] screenshot = nativeScreenshot(webdriver, element);
+    return screenshot == null ? null : ImageIO.read(new ByteArrayInputStream(screenshot));
+  }
+
+  /**
+   * @return screenshot of the whole page. Inside of {@link #samePage(Runnable)}, it's taken only once per page.
+   */
+  BufferedImage pageImage(WebDriver webdriver) throws IOException {
+    PageImage cached = samePageImage.get();
+    long pageVersion = ElementsCache.instance.pageVersion(webdriver);
+    if (cached != null && cached.image != null && cached.webDriver == webdriver && cached.pageVersion == pageVersion) {
+      return cached.image;
+    }
+
+    byte[] screen = ((TakesScreenshot) webdriver).getScreenshotAs(OutputType.BYTES);
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(screen));
+    if (cached != null) {
+      cached.webDriver = webdriver;
+      cached.pageVersion = pageVersion;
+      cached.image = image;
+    }
+    return image;
+  }
+
+  void samePage(Runnable code) {
+    PageImage previous = samePageImage.get();
+    samePageImage.set(new PageImage());
+    try {
+      code.run();
+    }
+    finally {
+      if (previous == null) {
+        samePageImage.remove();
+      }
+      else {
+        samePageImage.set(previous);
+      }
+    }
+  }
+
+  private static class PageImage {
+    private WebDriver webDriver;
+    private long pageVersion;
+    private BufferedImage image;
+  }
+}
@@ -0,0 +1,37 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+
+/**
+ * Resolves {@link PollingStrategy} for the current {@link Configuration#pollingMode}.
+ *
+ * To use your own strategy, assign it to {@link #custom}.
+ */
+public class PollingStrategies {
+  public static final PollingStrategy FIXED = new FixedPollingStrategy();
+  public static final PollingStrategy EXPONENTIAL = new ExponentialPollingStrategy();
+  public static final PollingStrategy ADAPTIVE = new AdaptivePollingStrategy();
+  public static final PollingStrategy DOM_MUTATIONS = new DomMutationPollingStrategy();
+
+  /**
+   * If set, overrides {@link Configuration#pollingMode}
+   */
+  public static PollingStrategy custom;
+
+  public static PollingStrategy current() {
+    if (custom != null) {
+      return custom;
+    }
+
+    switch (Configuration.pollingMode) {
+      case EXPONENTIAL:
+        return EXPONENTIAL;
+      case ADAPTIVE:
+        return ADAPTIVE;
+      case DOM_MUTATIONS:
+        return DOM_MUTATIONS;
+      default:
+        return FIXED;
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.codeborne.selenide.impl;
+
+/**
+ * Defines how long Selenide sleeps between attempts to check a condition.
+ *
+ * One instance is shared by all waiting loops, while a new {@link Polling} is started for every single wait.
+ *
+ * @see PollingStrategies
+ * @see com.codeborne.selenide.Configuration#pollingMode
+ */
+public interface PollingStrategy {
+  /**
+   * @param subject           what is being waited for (e.g. element selector). Used by strategies that learn from history.
+   * @param timeoutMs         total time of waiting
+   * @param pollingIntervalMs configured polling interval
+   * @return new polling instance which lives until the end of the waiting loop
+   */
+  Polling start(String subject, long timeoutMs, long pollingIntervalMs);
+
+  interface Polling {
+    /**
+     * Strategy may also block itself (e.g. waiting for some event in browser) and return 0.
+     *
+     * @return number of milliseconds to sleep before the next attempt
+     */
+    long nextDelay();
+
+    /**
+     * Called when the condition has been met
+     */
+    void succeeded();
+  }
+}
@@ -0,0 +1,76 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.impl.WebDriverThreadLocalContainer.StartedBrowser;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.impl.WebDriverThreadLocalContainer.daemonThreads;
+import static java.lang.Thread.currentThread;
+
+/**
+ * Browsers being started in background threads, waiting for the first threads that need them.
+ * Browsers which nobody took are closed before JVM exit.
+ */
+class PrewarmedBrowsers {
+  private static final Logger log = Logger.getLogger(PrewarmedBrowsers.class.getName());
+
+  private final Queue<Future<StartedBrowser>> browsers = new ConcurrentLinkedQueue<>();
+  private ExecutorService executor;
+
+  synchronized void start(Callable<StartedBrowser> startBrowser, Consumer<StartedBrowser> closeBrowser) {
+    if (executor == null) {
+      executor = Executors.newCachedThreadPool(daemonThreads("Webdriver prewarm"));
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> closeAll(closeBrowser), "Webdriver prewarm cleanup"));
+    }
+    browsers.add(executor.submit(startBrowser));
+  }
+
+  /**
+   * @return the first prewarmed browser (waits until it's started), or null if there are no prewarmed browsers
+   */
+  StartedBrowser take() {
+    Future<StartedBrowser> prewarmed;
+    while ((prewarmed = browsers.poll()) != null) {
+      try {
+        return prewarmed.get();
+      }
+      catch (ExecutionException e) {
+        log.warning("Failed to prewarm webdriver: " + Cleanup.of.webdriverExceptionMessage(e.getCause()));
+      }
+      catch (InterruptedException e) {
+        currentThread().interrupt();
+        browsers.add(prewarmed);
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Browsers which are still starting are not interrupted (it could leave a half-started browser process):
+   * we wait until they are started and then close them.
+   */
+  void closeAll(Consumer<StartedBrowser> closeBrowser) {
+    Future<StartedBrowser> prewarmed;
+    while ((prewarmed = browsers.poll()) != null) {
+      try {
+        closeBrowser.accept(prewarmed.get());
+      }
+      catch (ExecutionException | CancellationException ignore) {
+      }
+      catch (InterruptedException e) {
+        currentThread().interrupt();
+        return;
+      }
+    }
+  }
+}
@@ -13,39 +13,41 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.UnreachableBrowserException;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.awt.image.RasterFormatException;
-import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 import java.util.logging.Logger;
 
 import static com.codeborne.selenide.Configuration.reportsFolder;
 import static com.codeborne.selenide.Selenide.switchTo;
 import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
 import static java.io.File.separatorChar;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.logging.Level.SEVERE;
+import static java.util.stream.Collectors.toList;
 import static org.openqa.selenium.OutputType.FILE;
 
 public class ScreenShotLaboratory {
   private static final Logger log = Logger.getLogger(ScreenShotLaboratory.class.getName());
-  protected final List<File> allScreenshots = new ArrayList<>();
+  private final ScreenshotHistory history = new ScreenshotHistory();
   protected AtomicLong screenshotCounter = new AtomicLong();
   protected ThreadLocal<String> currentContext = ThreadLocal.withInitial(() -> "");
   protected ThreadLocal<List<File>> currentContextScreenshots = new ThreadLocal<>();
   protected Set<String> printedErrors = new ConcurrentSkipListSet<>();
+  private final PageScreenshots pageScreenshots = new PageScreenshots();
+  private final ScreenshotFiles files = new ScreenshotFiles();
 
   public String takeScreenShot(String className, String methodName) {
     return takeScreenShot(getScreenshotFileName(className, methodName));
@@ -89,10 +91,19 @@ public class ScreenShotLaboratory {
 
   public File takeScreenshot(WebElement element) {
     try {
+      byte[] nativeScreenshot = takeNativeScreenshot(element);
+      if (nativeScreenshot != null) {
+        File screenshotOfElement = new File(reportsFolder, generateScreenshotFileName() + ".png");
+        writePng(nativeScreenshot, screenshotOfElement);
+        return screenshotOfElement;
+      }
+
       BufferedImage dest = takeScreenshotAsImage(element);
+      if (dest == null) {
+        return null;
+      }
       File screenshotOfElement = new File(reportsFolder, generateScreenshotFileName() + ".png");
-      ensureFolderExists(screenshotOfElement);
-      ImageIO.write(dest, "png", screenshotOfElement);
+      writeImage(dest, screenshotOfElement);
       return screenshotOfElement;
     } catch (IOException e) {
       printOnce("takeScreenshot", e);
@@ -112,11 +123,14 @@ public class ScreenShotLaboratory {
       return null;
     }
 
-    byte[] screen = ((TakesScreenshot) webdriver).getScreenshotAs(OutputType.BYTES);
-
-    Point elementLocation = element.getLocation();
     try {
-      BufferedImage img = ImageIO.read(new ByteArrayInputStream(screen));
+      BufferedImage nativeImage = pageScreenshots.nativeImage(webdriver, element);
+      if (nativeImage != null) {
+        return nativeImage;
+      }
+
+      BufferedImage img = pageImage(webdriver);
+      Point elementLocation = element.getLocation();
       int elementWidth = element.getSize().getWidth();
       int elementHeight = element.getSize().getHeight();
       if (elementWidth > img.getWidth()) {
@@ -135,15 +149,44 @@ public class ScreenShotLaboratory {
     }
   }
 
+  /**
+   * Element screenshot made by browser itself (see {@link Configuration#nativeElementScreenshots}).
+   *
+   * @return PNG image, or null if browser cannot take screenshots of elements
+   */
+  protected byte[] takeNativeScreenshot(WebElement element) {
+    return pageScreenshots.nativeScreenshot(getWebDriver(), element);
+  }
+
+  /**
+   * Screenshot of the whole page. Inside of {@link #samePage(Runnable)}, it's taken only once for the same page.
+   */
+  protected BufferedImage pageImage(WebDriver webdriver) throws IOException {
+    return pageScreenshots.pageImage(webdriver);
+  }
+
+  /**
+   * Takes all element screenshots inside of given code from one screenshot of the page,
+   * instead of taking (and decoding) a screenshot of the whole page for every element.
+   *
+   * NB! The page should not change inside of the code, otherwise element screenshots will show the old page.
+   * Opening another page starts a new screenshot.
+   */
+  public void samePage(Runnable code) {
+    pageScreenshots.samePage(code);
+  }
+
   protected String generateScreenshotFileName() {
-    return currentContext.get() + timestamp() + "." + screenshotCounter.getAndIncrement();
+    ScreenshotContext sessionContext = ScreenshotContext.ofCurrentSession();
+    String context = sessionContext != null ? sessionContext.name : currentContext.get();
+    return context + timestamp() + "." + screenshotCounter.getAndIncrement();
   }
 
   protected File ensureFolderExists(File targetFile) {
     File folder = targetFile.getParentFile();
     if (!folder.exists()) {
       log.info("Creating folder: " + folder);
-      if (!folder.mkdirs()) {
+      if (!folder.mkdirs() && !folder.isDirectory()) {
         log.severe("Failed to create " + folder);
       }
     }
@@ -170,8 +213,7 @@ public class ScreenShotLaboratory {
         return null;
       }
       File screenshotOfElement = new File(reportsFolder, generateScreenshotFileName() + ".png");
-      ensureFolderExists(screenshotOfElement);
-      ImageIO.write(dest, "png", screenshotOfElement);
+      writeImage(dest, screenshotOfElement);
       return screenshotOfElement;
     } catch (IOException e) {
       printOnce("takeScreenshot", e);
@@ -184,11 +226,10 @@ public class ScreenShotLaboratory {
     if (webdriver == null) {
       return null;
     }
-    byte[] screen = ((TakesScreenshot) webdriver).getScreenshotAs(OutputType.BYTES);
     Point iframeLocation = iframe.getLocation();
     BufferedImage img;
     try {
-      img = ImageIO.read(new ByteArrayInputStream(screen));
+      img = pageImage(webdriver);
     } catch (IOException e) {
       printOnce("takeScreenshotImage", e);
       return null;
@@ -264,12 +305,12 @@ public class ScreenShotLaboratory {
   }
 
   protected File addToHistory(File screenshot) {
-    if (currentContextScreenshots.get() != null) {
-      currentContextScreenshots.get().add(screenshot);
-    }
-    synchronized (allScreenshots) {
-      allScreenshots.add(screenshot);
+    ScreenshotContext sessionContext = ScreenshotContext.ofCurrentSession();
+    List<File> contextScreenshots = sessionContext != null ? sessionContext.screenshots : currentContextScreenshots.get();
+    if (contextScreenshots != null) {
+      contextScreenshots.add(screenshot);
     }
+    history.add(screenshot);
     return screenshot;
   }
 
@@ -324,8 +365,12 @@ public class ScreenShotLaboratory {
 
   protected File takeScreenshotImage(TakesScreenshot driver, String fileName) {
     try {
-      File scrFile = driver.getScreenshotAs(FILE);
       File imageFile = new File(reportsFolder, fileName + ".png");
+      if (Configuration.asyncScreenshots || Configuration.deduplicateScreenshots || files.isEncodingEnabled()) {
+        writePng(driver.getScreenshotAs(OutputType.BYTES), imageFile);
+        return imageFile;
+      }
+      File scrFile = driver.getScreenshotAs(FILE);
       copyFile(scrFile, imageFile);
       return imageFile;
     } catch (Exception e) {
@@ -335,29 +380,68 @@ public class ScreenShotLaboratory {
   }
 
   protected void copyFile(File sourceFile, File targetFile) throws IOException {
-    try (FileInputStream in = new FileInputStream(sourceFile)) {
+    try (InputStream in = Files.newInputStream(sourceFile.toPath())) {
       copyFile(in, targetFile);
     }
   }
 
   protected void copyFile(InputStream in, File targetFile) throws IOException {
     ensureFolderExists(targetFile);
-
-    try (FileOutputStream out = new FileOutputStream(targetFile)) {
-      byte[] buffer = new byte[1024];
-      int len;
-      while ((len = in.read(buffer)) != -1) {
-        out.write(buffer, 0, len);
-      }
-    }
+    Files.copy(in, targetFile.toPath(), REPLACE_EXISTING);
   }
 
   protected void writeToFile(String content, File targetFile) {
-    try (ByteArrayInputStream in = new ByteArrayInputStream(content.getBytes("UTF-8"))) {
-      copyFile(in, targetFile);
-    } catch (IOException e) {
-      log.log(SEVERE, "Failed to write file " + targetFile.getAbsolutePath(), e);
-    }
+    writeToFile(content.getBytes(UTF_8), targetFile);
+  }
+
+  /**
+   * Writes given content to file. If {@link Configuration#asyncScreenshots} is enabled, the file is written in background.
+   */
+  protected void writeToFile(byte[] content, File targetFile) {
+    files.write(content, targetFile);
+  }
+
+  /**
+   * Writes screenshot made by browser, re-encoded according to screenshot options
+   * (see {@link Configuration#screenshotMaxWidth}, {@link Configuration#screenshotColors}).
+   */
+  protected void writePng(byte[] png, File targetFile) {
+    files.writePng(png, targetFile);
+  }
+
+  protected void writeImage(BufferedImage image, File targetFile) throws IOException {
+    files.writeImage(image, targetFile);
+  }
+
+  /**
+   * @return how many bytes were saved by re-encoding screenshots made by browser
+   * (see {@link Configuration#screenshotMaxWidth}, {@link Configuration#screenshotCompressionLevel},
+   * {@link Configuration#screenshotColors})
+   */
+  public long screenshotBytesSaved() {
+    return files.savedBytes();
+  }
+
+  /**
+   * @return number of screenshots and page sources which were not stored again
+   * because the same content was already stored (see {@link Configuration#deduplicateScreenshots})
+   */
+  public long duplicateScreenshots() {
+    return files.duplicates();
+  }
+
+  /**
+   * @return number of screenshots and page sources being written in background (see {@link Configuration#asyncScreenshots})
+   */
+  public int pendingWrites() {
+    return files.pending();
+  }
+
+  /**
+   * Waits until all screenshots and page sources are written to disk, but not longer than given timeout.
+   */
+  public void waitForPendingWrites(long timeoutMs) {
+    files.waitForPending(timeoutMs);
   }
 
   public void startContext(String className, String methodName) {
@@ -365,28 +449,59 @@ public class ScreenShotLaboratory {
     startContext(context);
   }
 
+  /**
+   * Starts context of screenshots in current {@link com.codeborne.selenide.BrowserSession} (or current thread if there is no session).
+   */
   public void startContext(String context) {
-    currentContext.set(context);
-    currentContextScreenshots.set(new ArrayList<>());
+    ScreenshotContext sessionContext = ScreenshotContext.ofCurrentSession();
+    if (sessionContext != null) {
+      sessionContext.screenshots = new ArrayList<>();
+      sessionContext.name = context;
+    }
+    else {
+      currentContext.set(context);
+      currentContextScreenshots.set(new ArrayList<>());
+    }
   }
 
   public List<File> finishContext() {
+    ScreenshotContext sessionContext = ScreenshotContext.ofCurrentSession();
+    if (sessionContext != null) {
+      List<File> result = sessionContext.screenshots;
+      sessionContext.name = "";
+      sessionContext.screenshots = null;
+      return result;
+    }
     List<File> result = currentContextScreenshots.get();
     currentContext.set("");
     currentContextScreenshots.remove();
     return result;
   }
 
+  /**
+   * @return all screenshots taken so far.
+   * @deprecated use {@link #screenshotsHistory()}. If {@link Configuration#screenshotsHistorySize} is set,
+   * this method reads the whole screenshots index from disk to memory.
+   */
+  @Deprecated
   public List<File> getScreenshots() {
-    synchronized (allScreenshots) {
-      return Collections.unmodifiableList(allScreenshots);
+    try (Stream<File> screenshots = history.stream()) {
+      return screenshots.collect(toList());
     }
   }
 
+  /**
+   * Reads all screenshots taken so far, one by one.
+   * If {@link Configuration#screenshotsHistorySize} is set, they are read from index file on disk.
+   *
+   * @return stream of screenshots. It should be closed after use.
+   */
+  public Stream<File> screenshotsHistory() {
+    return history.stream();
+  }
+
   public File getLastScreenshot() {
-    synchronized (allScreenshots) {
-      return allScreenshots.isEmpty() ? null : allScreenshots.get(allScreenshots.size() - 1);
-    }
+    return history.last();
   }
 
   public String formatScreenShotPath() {
@@ -0,0 +1,23 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.BrowserSession;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Context of screenshots (see {@link ScreenShotLaboratory#startContext(String)}) of one {@link BrowserSession}.
+ * Code of a session runs in one thread at a time, but the thread can change between runs.
+ */
+public class ScreenshotContext {
+  volatile String name = "";
+  volatile List<File> screenshots;
+
+  /**
+   * @return context of {@link BrowserSession#current()}, or null if there is no current session
+   */
+  static ScreenshotContext ofCurrentSession() {
+    BrowserSession session = BrowserSession.current();
+    return session == null ? null : session.screenshotContext();
+  }
+}
@@ -0,0 +1,137 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.Configuration.screenshotColors;
+import static com.codeborne.selenide.Configuration.screenshotCompressionLevel;
+import static com.codeborne.selenide.Configuration.screenshotMaxWidth;
+
+/**
+ * Encodes screenshots to PNG according to {@link Configuration#screenshotMaxWidth},
+ * {@link Configuration#screenshotCompressionLevel} and {@link Configuration#screenshotColors}.
+ */
+class ScreenshotEncoder {
+  private static final Logger log = Logger.getLogger(ScreenshotEncoder.class.getName());
+
+  private final AtomicLong savedBytes = new AtomicLong();
+  private volatile Boolean compressionSupported;
+
+  boolean isEnabled() {
+    return screenshotMaxWidth > 0 || !"rgb".equals(screenshotColors) || screenshotCompressionLevel >= 0 && canCompress();
+  }
+
+  /**
+   * Standard PNG writer of Java 8 ignores compression level, so the level alone is not a reason to re-encode screenshots.
+   */
+  boolean canCompress() {
+    Boolean supported = compressionSupported;
+    if (supported == null) {
+      ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+      try {
+        supported = writer.getDefaultWriteParam().canWriteCompressed();
+      }
+      finally {
+        writer.dispose();
+      }
+      if (!supported) {
+        log.warning("PNG compression level is not supported by this Java version, default level is used");
+      }
+      compressionSupported = supported;
+    }
+    return supported;
+  }
+
+  /**
+   * @param png screenshot made by browser
+   * @return re-encoded screenshot, or the original one if it's smaller
+   */
+  byte[] encode(byte[] png) throws IOException {
+    if (!isEnabled()) return png;
+
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+    if (image == null) return png;
+
+    byte[] encoded = encode(image);
+    if (encoded.length >= png.length) return png;
+
+    savedBytes.addAndGet(png.length - encoded.length);
+    return encoded;
+  }
+
+  byte[] encode(BufferedImage image) throws IOException {
+    BufferedImage converted = convert(image);
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+    try (ImageOutputStream out = ImageIO.createImageOutputStream(png)) {
+      writer.setOutput(out);
+      writer.write(null, new IIOImage(converted, null, null), writeParam(writer));
+    }
+    finally {
+      writer.dispose();
+    }
+    return png.toByteArray();
+  }
+
+  private ImageWriteParam writeParam(ImageWriter writer) {
+    ImageWriteParam param = writer.getDefaultWriteParam();
+    if (screenshotCompressionLevel >= 0 && canCompress() && param.canWriteCompressed()) {
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(1.0f - Math.min(screenshotCompressionLevel, 9) / 9.0f);
+    }
+    return param;
+  }
+
+  BufferedImage convert(BufferedImage image) {
+    int type = imageType(image);
+    boolean downscale = screenshotMaxWidth > 0 && image.getWidth() > screenshotMaxWidth;
+    if (!downscale && type == image.getType()) return image;
+
+    int width = downscale ? screenshotMaxWidth : image.getWidth();
+    int height = downscale ? Math.max(1, image.getHeight() * width / image.getWidth()) : image.getHeight();
+    BufferedImage result = new BufferedImage(width, height, type);
+    Graphics2D graphics = result.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.drawImage(image, 0, 0, width, height, null);
+    }
+    finally {
+      graphics.dispose();
+    }
+    return result;
+  }
+
+  private int imageType(BufferedImage image) {
+    switch (screenshotColors) {
+      case "rgb":
+        return image.getType() == BufferedImage.TYPE_CUSTOM ? BufferedImage.TYPE_INT_ARGB : image.getType();
+      case "grayscale":
+        return BufferedImage.TYPE_BYTE_GRAY;
+      case "indexed":
+        return BufferedImage.TYPE_BYTE_INDEXED;
+      default:
+        throw new IllegalArgumentException("Unknown screenshot colors: " + screenshotColors +
+            ", supported: rgb, grayscale, indexed");
+    }
+  }
+
+  /**
+   * @return how many bytes were saved by re-encoding screenshots made by browser
+   */
+  long savedBytes() {
+    return savedBytes.get();
+  }
+}
@@ -0,0 +1,92 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.Configuration.reportsFolder;
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Writes screenshots and page sources to disk:
+ * in background (see {@link Configuration#asyncScreenshots}),
+ * re-encoded (see {@link Configuration#screenshotMaxWidth}) and
+ * only once per unique content (see {@link Configuration#deduplicateScreenshots}).
+ */
+class ScreenshotFiles {
+  private static final Logger log = Logger.getLogger(ScreenshotFiles.class.getName());
+  private static final int WRITER_THREADS = 2;
+  private static final int WRITER_QUEUE_SIZE = 100;
+
+  private final ScreenshotEncoder encoder = new ScreenshotEncoder();
+  private final ContentStore contentStore = new ContentStore();
+  private final BackgroundWriter writer = new BackgroundWriter(WRITER_THREADS, WRITER_QUEUE_SIZE);
+
+  /**
+   * @return true if screenshots made by browser should be re-encoded before writing
+   */
+  boolean isEncodingEnabled() {
+    return encoder.isEnabled();
+  }
+
+  void write(byte[] content, File targetFile) {
+    writeSafely(targetFile, file -> save(content, file));
+  }
+
+  void writePng(byte[] png, File targetFile) {
+    writeSafely(targetFile, file -> save(encoder.encode(png), file));
+  }
+
+  void writeImage(BufferedImage image, File targetFile) throws IOException {
+    if (Configuration.asyncScreenshots) {
+      writer.write(targetFile, file -> save(encoder.encode(image), file));
+      return;
+    }
+    save(encoder.encode(image), targetFile);
+  }
+
+  private void writeSafely(File targetFile, BackgroundWriter.Write write) {
+    if (Configuration.asyncScreenshots) {
+      writer.write(targetFile, write);
+      return;
+    }
+    try {
+      write.write(targetFile);
+    }
+    catch (IOException e) {
+      log.log(SEVERE, "Failed to write file " + targetFile.getAbsolutePath(), e);
+    }
+  }
+
+  private void save(byte[] content, File targetFile) throws IOException {
+    Files.createDirectories(targetFile.getAbsoluteFile().getParentFile().toPath());
+    if (Configuration.deduplicateScreenshots) {
+      contentStore.write(content, new File(reportsFolder, ContentStore.FOLDER), targetFile);
+      return;
+    }
+    try (FileOutputStream out = new FileOutputStream(targetFile)) {
+      out.write(content);
+    }
+  }
+
+  long savedBytes() {
+    return encoder.savedBytes();
+  }
+
+  long duplicates() {
+    return contentStore.duplicates();
+  }
+
+  int pending() {
+    return writer.pending();
+  }
+
+  void waitForPending(long timeoutMs) {
+    writer.waitForPending(timeoutMs);
+  }
+}
@@ -0,0 +1,115 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * All screenshots taken during the test run (see {@link Configuration#screenshotsHistorySize}).
+ *
+ * By default, all screenshots are kept in memory.
+ * If history size is limited, only the last screenshots are kept in memory,
+ * and all screenshots are appended to index file "screenshots.{run id}.index" in {@link Configuration#reportsFolder}.
+ * Every history writes its own index file (run id is unique), so parallel test runs can share the reports folder.
+ */
+class ScreenshotHistory {
+  private static final Logger log = Logger.getLogger(ScreenshotHistory.class.getName());
+  static final String INDEX_FILE_PREFIX = "screenshots.";
+  static final String INDEX_FILE_SUFFIX = ".index";
+
+  private final Deque<File> recent = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger recentSize = new AtomicInteger();
+  private volatile File last;
+  private final String runId = UUID.randomUUID().toString();
+  private File index;
+  private Writer indexWriter;
+
+  void add(File screenshot) {
+    last = screenshot;
+    int limit = Configuration.screenshotsHistorySize;
+    if (limit >= 0) {
+      appendToIndex(screenshot);
+    }
+    recent.addLast(screenshot);
+    if (recentSize.incrementAndGet() > limit && limit >= 0) {
+      recent.pollFirst();
+      recentSize.decrementAndGet();
+    }
+  }
+
+  private synchronized void appendToIndex(File screenshot) {
+    try {
+      if (index == null) {
+        File file = new File(Configuration.reportsFolder, INDEX_FILE_PREFIX + runId + INDEX_FILE_SUFFIX).getAbsoluteFile();
+        Files.createDirectories(file.getParentFile().toPath());
+        index = file;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::closeIndex, "Screenshots index cleanup"));
+      }
+      if (indexWriter == null) {
+        indexWriter = Files.newBufferedWriter(index.toPath(), UTF_8, CREATE, APPEND);
+      }
+      indexWriter.write(screenshot.getPath());
+      indexWriter.write('\n');
+      indexWriter.flush();
+    }
+    catch (IOException e) {
+      log.log(SEVERE, "Failed to write screenshots index " + index, e);
+    }
+  }
+
+  synchronized void closeIndex() {
+    if (indexWriter == null) return;
+    try {
+      indexWriter.close();
+    }
+    catch (IOException e) {
+      log.log(SEVERE, "Failed to close screenshots index " + index, e);
+    }
+    indexWriter = null;
+  }
+
+  /**
+   * @return all screenshots, read from index file if it exists. The stream should be closed after use.
+   */
+  Stream<File> stream() {
+    File indexFile;
+    synchronized (this) {
+      indexFile = index;
+    }
+    if (indexFile == null) {
+      return recent.stream();
+    }
+    try {
+      return Files.lines(indexFile.toPath(), UTF_8).map(File::new);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Failed to read screenshots index " + indexFile, e);
+    }
+  }
+
+  /**
+   * @return index file of this history, or null if screenshots are kept only in memory
+   */
+  synchronized File index() {
+    return index;
+  }
+
+  File last() {
+    return last;
+  }
+}
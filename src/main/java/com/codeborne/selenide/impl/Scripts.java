@@ -0,0 +1,48 @@
+package com.codeborne.selenide.impl;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.Thread.currentThread;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Javascript files from classpath. Every file is loaded only once.
+ */
+class Scripts {
+  static final String HELPERS = "helpers.js";
+
+  private static final Map<String, String> scripts = new ConcurrentHashMap<>();
+
+  /**
+   * @return content of given file from classpath
+   */
+  static String load(String name) {
+    return scripts.computeIfAbsent(name, Scripts::read);
+  }
+
+  /**
+   * @return given script preceded by helper functions shared by all scripts working with elements (see helpers.js)
+   */
+  static String withHelpers(String name) {
+    String key = HELPERS + '+' + name;
+    String script = scripts.get(key);
+    if (script == null) {
+      script = load(HELPERS) + '\n' + load(name);
+      scripts.put(key, script);
+    }
+    return script;
+  }
+
+  private static String read(String name) {
+    try {
+      return IOUtils.toString(currentThread().getContextClassLoader().getResource(name), UTF_8);
+    }
+    catch (IOException e) {
+      throw new RuntimeException("Cannot load " + name + " from classpath", e);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static com.codeborne.selenide.Configuration.SelectorMode.CSS;
+import static com.codeborne.selenide.Configuration.selectorMode;
+
+/**
+ * Combines selectors of nested elements like {@code $("#a").$(".b")} into one selector, so that
+ * the whole chain can be found by a single webdriver call.
+ *
+ * Selectors are combined only if the result finds exactly the same element as the chain of lookups:
+ * <ul>
+ *   <li>XPath: {@code $x("//form").$x(".//input")} becomes {@code (//form)[1]//input}</li>
+ *   <li>CSS: {@code $("#login").$(".submit")} becomes {@code #login .submit},
+ *   but only if parent is found by id and child selector has no combinators</li>
+ * </ul>
+ */
+class SelectorChain {
+  private static final Pattern IDENTIFIER = Pattern.compile("-?[_a-zA-Z][_a-zA-Z0-9-]*");
+  private static final Pattern RELATIVE_XPATH_STEP = Pattern.compile("(\\.//?|[a-zA-Z*]).*");
+
+  /**
+   * @param selectors selectors of nested elements, starting from the outermost one
+   * @return single selector finding the same element as the chain of nested lookups, or null if such a selector cannot be built
+   */
+  static By combine(List<By> selectors) {
+    By combined = selectors.get(0);
+    for (int i = 1; i < selectors.size() && combined != null; i++) {
+      combined = combine(combined, selectors.get(i));
+    }
+    return combined;
+  }
+
+  /**
+   * @return selector finding the first element matching {@code child} inside the first element matching {@code parent},
+   *         or null if such a selector cannot be built
+   */
+  static By combine(By parent, By child) {
+    String parentXpath = value(parent, By.ByXPath.class);
+    String childXpath = value(child, By.ByXPath.class);
+    if (parentXpath != null && childXpath != null) {
+      String xpath = combineXpath(parentXpath, childXpath);
+      return xpath == null ? null : By.xpath(xpath);
+    }
+
+    if (selectorMode != CSS) return null;
+
+    String parentId = parentId(parent);
+    String childCss = css(child);
+    if (parentId != null && childCss != null && isCompoundSelector(childCss)) {
+      return By.cssSelector('#' + parentId + ' ' + childCss);
+    }
+    return null;
+  }
+
+  static String combineXpath(String parent, String child) {
+    if (child.contains("|") || !RELATIVE_XPATH_STEP.matcher(child).matches()) return null;
+
+    String firstParent = '(' + parent + ")[1]";
+    return child.startsWith(".") ? firstParent + child.substring(1) : firstParent + '/' + child;
+  }
+
+  private static String parentId(By parent) {
+    String id = value(parent, By.ById.class);
+    if (id == null) {
+      String css = value(parent, By.ByCssSelector.class);
+      id = css != null && css.startsWith("#") ? css.substring(1) : null;
+    }
+    return id != null && IDENTIFIER.matcher(id).matches() ? id : null;
+  }
+
+  private static String css(By child) {
+    String css = value(child, By.ByCssSelector.class);
+    if (css != null) return css;
+
+    String className = value(child, By.ByClassName.class);
+    if (className != null) return IDENTIFIER.matcher(className).matches() ? '.' + className : null;
+
+    String tagName = value(child, By.ByTagName.class);
+    return tagName != null && IDENTIFIER.matcher(tagName).matches() ? tagName : null;
+  }
+
+  /**
+   * Selectors with combinators (" ", ">", "+", "~") or lists (",") are searched by webdriver
+   * in the whole document, not only inside the parent. They cannot be safely prefixed with parent selector.
+   */
+  static boolean isCompoundSelector(String css) {
+    for (char c : css.toCharArray()) {
+      if (Character.isWhitespace(c) || c == '>' || c == '+' || c == '~' || c == ',') return false;
+    }
+    return !css.isEmpty();
+  }
+
+  private static String value(By selector, Class<? extends By> type) {
+    if (selector == null || selector.getClass() != type) return null;
+    String description = selector.toString();
+    return description.substring(description.indexOf(':') + 1).trim();
+  }
+}
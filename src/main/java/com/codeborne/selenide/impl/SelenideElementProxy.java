@@ -1,20 +1,27 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Command;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.commands.Commands;
 import com.codeborne.selenide.ex.InvalidStateException;
 import com.codeborne.selenide.ex.UIAssertionError;
+import com.codeborne.selenide.impl.PollingStrategy.Polling;
 import com.codeborne.selenide.logevents.SelenideLog;
 import com.codeborne.selenide.logevents.SelenideLogger;
 import org.openqa.selenium.InvalidElementStateException;
 import org.openqa.selenium.WebDriverException;
 
 import java.io.FileNotFoundException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.codeborne.selenide.Condition.exist;
 import static com.codeborne.selenide.Configuration.AssertionMode.SOFT;
@@ -51,25 +58,30 @@ class SelenideElementProxy implements InvocationHandler {
     this.webElementSource = webElementSource;
   }
 
+  WebElementSource getWebElementSource() {
+    return webElementSource;
+  }
+
   @Override
   public Object invoke(Object proxy, Method method, Object... args) throws Throwable {
-    if (methodsToSkipLogging.contains(method.getName()))
-      return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+    Dispatch dispatch = Dispatch.of(method);
+    if (dispatch.skipLogging)
+      return dispatch.command().execute((SelenideElement) proxy, webElementSource, args);
 
     validateAssertionMode();
 
-    long timeoutMs = getTimeoutMs(method, args);
-    long pollingIntervalMs = getPollingIntervalMs(method, args);
+    long timeoutMs = getTimeoutMs(dispatch, args);
+    long pollingIntervalMs = getPollingIntervalMs(dispatch, args);
     SelenideLog log = SelenideLogger.beginStep(webElementSource.getSearchCriteria(), method.getName(), args);
     try {
-      Object result = dispatchAndRetry(timeoutMs, pollingIntervalMs, proxy, method, args);
+      Object result = dispatchAndRetry(timeoutMs, pollingIntervalMs, proxy, dispatch, args);
       SelenideLogger.commitStep(log, PASS);
       return result;
     }
     catch (Error error) {
       Error wrappedError = UIAssertionError.wrap(error, timeoutMs);
       SelenideLogger.commitStep(log, wrappedError);
-      if (assertionMode == SOFT && methodsForSoftAssertion.contains(method.getName()))
+      if (assertionMode == SOFT && dispatch.softAssertion)
         return proxy;
       else
         throw wrappedError;
@@ -82,15 +94,21 @@ class SelenideElementProxy implements InvocationHandler {
 
   protected Object dispatchAndRetry(long timeoutMs, long pollingIntervalMs,
                                     Object proxy, Method method, Object[] args) throws Throwable, Error {
+    return dispatchAndRetry(timeoutMs, pollingIntervalMs, proxy, Dispatch.of(method), args);
+  }
+
+  private Object dispatchAndRetry(long timeoutMs, long pollingIntervalMs,
+                                  Object proxy, Dispatch dispatch, Object[] args) throws Throwable, Error {
     final long startTime = currentTimeMillis();
+    Polling polling = PollingStrategies.current().start(webElementSource.getSearchCriteria(), timeoutMs, pollingIntervalMs);
     Throwable lastError;
     do {
       try {
-        if (SelenideElement.class.isAssignableFrom(method.getDeclaringClass())) {
-          return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
-        }
-
-        return method.invoke(webElementSource.getWebElement(), args);
+        Object result = dispatch.selenideCommand ?
+            dispatch.command().execute((SelenideElement) proxy, webElementSource, args) :
+            dispatch.invokeOnWebElement(webElementSource.getWebElement(), args);
+        polling.succeeded();
+        return result;
       }
       catch (InvocationTargetException e) {
         lastError = e.getTargetException();
@@ -105,7 +123,7 @@ class SelenideElementProxy implements InvocationHandler {
       else if (!shouldRetryAfterError(lastError)) {
         throw lastError;
       }
-      sleep(pollingIntervalMs);
+      sleep(polling.nextDelay());
     }
     while (currentTimeMillis() - startTime <= timeoutMs);
 
@@ -129,17 +147,92 @@ class SelenideElementProxy implements InvocationHandler {
     return e instanceof Exception || e instanceof AssertionError;
   }
 
-  private long getTimeoutMs(Method method, Object[] args) {
-    return isWaitCommand(method) ?
+  private long getTimeoutMs(Dispatch dispatch, Object[] args) {
+    return dispatch.waitCommand ?
         args.length == 3 ? (Long) args[args.length - 2] : (Long) args[args.length - 1] :
         timeout;
   }
 
-  private long getPollingIntervalMs(Method method, Object[] args) {
-    return isWaitCommand(method) && args.length == 3 ? (Long) args[args.length - 1] : pollingInterval;
+  private long getPollingIntervalMs(Dispatch dispatch, Object[] args) {
+    return dispatch.waitCommand && args.length == 3 ? (Long) args[args.length - 1] : pollingInterval;
   }
 
-  private boolean isWaitCommand(Method method) {
+  private static boolean isWaitCommand(Method method) {
     return "waitUntil".equals(method.getName()) || "waitWhile".equals(method.getName());
   }
+
+  /**
+   * Everything needed to invoke a proxy method, computed once per {@link Method}:
+   * flags that otherwise require a lookup by method name on every call,
+   * Selenide command (re-resolved only if {@link Commands} are changed)
+   * and a method handle for plain {@link org.openqa.selenium.WebElement} methods.
+   */
+  static final class Dispatch {
+    private static final ConcurrentMap<Method, Dispatch> cache = new ConcurrentHashMap<>();
+
+    final Method method;
+    final boolean skipLogging;
+    final boolean softAssertion;
+    final boolean waitCommand;
+    final boolean selenideCommand;
+    private final MethodHandle webElementMethod;
+    private volatile ResolvedCommand resolvedCommand;
+
+    private Dispatch(Method method) {
+      this.method = method;
+      this.skipLogging = methodsToSkipLogging.contains(method.getName());
+      this.softAssertion = methodsForSoftAssertion.contains(method.getName());
+      this.waitCommand = isWaitCommand(method);
+      this.selenideCommand = SelenideElement.class.isAssignableFrom(method.getDeclaringClass());
+      this.webElementMethod = selenideCommand ? null : toMethodHandle(method);
+    }
+
+    static Dispatch of(Method method) {
+      Dispatch dispatch = cache.get(method);
+      return dispatch != null ? dispatch : cache.computeIfAbsent(method, Dispatch::new);
+    }
+
+    private static MethodHandle toMethodHandle(Method method) {
+      try {
+        return MethodHandles.publicLookup().unreflect(method)
+            .asSpreader(Object[].class, method.getParameterCount())
+            .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+      }
+      catch (IllegalAccessException e) {
+        return null;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    Command<Object> command() {
+      Commands commands = Commands.getInstance();
+      int version = commands.version();
+      ResolvedCommand resolved = resolvedCommand;
+      if (resolved == null || resolved.version != version) {
+        resolved = new ResolvedCommand(version, commands.get(method.getName()));
+        resolvedCommand = resolved;
+      }
+      if (resolved.command == null) {
+        throw new IllegalArgumentException("Unknown Selenide method: " + method.getName());
+      }
+      return (Command<Object>) resolved.command;
+    }
+
+    Object invokeOnWebElement(Object webElement, Object[] args) throws Throwable {
+      if (webElementMethod == null || !method.getDeclaringClass().isInstance(webElement)) {
+        return method.invoke(webElement, args);
+      }
+      return (Object) webElementMethod.invokeExact(webElement, args);
+    }
+  }
+
+  private static final class ResolvedCommand {
+    final int version;
+    final Command<?> command;
+
+    ResolvedCommand(int version, Command<?> command) {
+      this.version = version;
+      this.command = command;
+    }
+  }
 }
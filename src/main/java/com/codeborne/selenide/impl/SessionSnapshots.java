@@ -0,0 +1,177 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.SessionSnapshot;
+import org.openqa.selenium.Cookie;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Keeps session snapshots in memory and, if {@link Configuration#sessionSnapshotsFolder} is set, on disk.
+ * Snapshots saved on disk survive JVM restarts. They are stored as plain properties files (no java serialization),
+ * so reading a snapshot file cannot create any objects except cookies and strings.
+ * Snapshots older than {@link Configuration#sessionSnapshotMaxAgeMs} are discarded.
+ */
+public class SessionSnapshots {
+  private static final Logger log = Logger.getLogger(SessionSnapshots.class.getName());
+
+  public static SessionSnapshots instance = new SessionSnapshots();
+
+  private final Map<String, SessionSnapshot> snapshots = new ConcurrentHashMap<>();
+
+  public void save(String key, SessionSnapshot snapshot) {
+    snapshots.put(key, snapshot);
+    File file = file(key);
+    if (file != null) {
+      write(file, snapshot);
+    }
+  }
+
+  /**
+   * @return snapshot saved with given key, or null if there is no such snapshot or it's expired
+   */
+  public SessionSnapshot get(String key) {
+    SessionSnapshot snapshot = snapshots.get(key);
+    if (snapshot == null) {
+      File file = file(key);
+      if (file != null && file.exists()) {
+        snapshot = read(file);
+        if (snapshot != null) {
+          snapshots.putIfAbsent(key, snapshot);
+        }
+      }
+    }
+    if (snapshot != null && isExpired(snapshot)) {
+      log.info("Session snapshot " + key + " is expired: " + new Date(snapshot.getCapturedAt()));
+      remove(key);
+      return null;
+    }
+    return snapshot;
+  }
+
+  private boolean isExpired(SessionSnapshot snapshot) {
+    return System.currentTimeMillis() - snapshot.getCapturedAt() > Configuration.sessionSnapshotMaxAgeMs;
+  }
+
+  public void remove(String key) {
+    snapshots.remove(key);
+    File file = file(key);
+    if (file != null && file.exists() && !file.delete()) {
+      log.warning("Failed to delete session snapshot " + file.getAbsolutePath());
+    }
+  }
+
+  /**
+   * Forgets all snapshots kept in memory. Snapshots saved on disk are kept.
+   */
+  public void clear() {
+    snapshots.clear();
+  }
+
+  protected File file(String key) {
+    String folder = Configuration.sessionSnapshotsFolder;
+    if (folder == null) return null;
+    try {
+      return new File(folder, URLEncoder.encode(key, "UTF-8") + ".session");
+    }
+    catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void write(File file, SessionSnapshot snapshot) {
+    File folder = file.getParentFile();
+    if (!folder.exists() && !folder.mkdirs()) {
+      log.warning("Failed to create folder " + folder.getAbsolutePath());
+      return;
+    }
+    try (OutputStream out = new FileOutputStream(file)) {
+      toProperties(snapshot).store(out, "Selenide session snapshot");
+    }
+    catch (IOException e) {
+      log.log(WARNING, "Failed to save session snapshot to " + file.getAbsolutePath(), e);
+    }
+  }
+
+  private SessionSnapshot read(File file) {
+    try (InputStream in = new FileInputStream(file)) {
+      Properties properties = new Properties();
+      properties.load(in);
+      return fromProperties(properties);
+    }
+    catch (IOException | IllegalArgumentException e) {
+      log.log(WARNING, "Failed to read session snapshot from " + file.getAbsolutePath(), e);
+      return null;
+    }
+  }
+
+  private static Properties toProperties(SessionSnapshot snapshot) {
+    Properties properties = new Properties();
+    properties.setProperty("capturedAt", String.valueOf(snapshot.getCapturedAt()));
+    properties.setProperty("origin", snapshot.getOrigin());
+    List<Cookie> cookies = snapshot.getCookies();
+    for (int i = 0; i < cookies.size(); i++) {
+      Cookie cookie = cookies.get(i);
+      String prefix = "cookie." + i + '.';
+      properties.setProperty(prefix + "name", cookie.getName());
+      properties.setProperty(prefix + "value", cookie.getValue());
+      if (cookie.getDomain() != null) properties.setProperty(prefix + "domain", cookie.getDomain());
+      if (cookie.getPath() != null) properties.setProperty(prefix + "path", cookie.getPath());
+      if (cookie.getExpiry() != null) properties.setProperty(prefix + "expiry", String.valueOf(cookie.getExpiry().getTime()));
+      properties.setProperty(prefix + "secure", String.valueOf(cookie.isSecure()));
+      properties.setProperty(prefix + "httpOnly", String.valueOf(cookie.isHttpOnly()));
+    }
+    snapshot.getLocalStorage().forEach((key, value) -> properties.setProperty("localStorage." + key, value));
+    snapshot.getSessionStorage().forEach((key, value) -> properties.setProperty("sessionStorage." + key, value));
+    return properties;
+  }
+
+  private static SessionSnapshot fromProperties(Properties properties) {
+    String origin = properties.getProperty("origin");
+    String capturedAt = properties.getProperty("capturedAt");
+    if (origin == null || capturedAt == null) {
+      throw new IllegalArgumentException("Not a session snapshot: origin or capturedAt is missing");
+    }
+
+    List<Cookie> cookies = new ArrayList<>();
+    for (int i = 0; properties.getProperty("cookie." + i + ".name") != null; i++) {
+      String prefix = "cookie." + i + '.';
+      String expiry = properties.getProperty(prefix + "expiry");
+      cookies.add(new Cookie(properties.getProperty(prefix + "name"), properties.getProperty(prefix + "value", ""),
+          properties.getProperty(prefix + "domain"), properties.getProperty(prefix + "path"),
+          expiry == null ? null : new Date(Long.parseLong(expiry)),
+          Boolean.parseBoolean(properties.getProperty(prefix + "secure")),
+          Boolean.parseBoolean(properties.getProperty(prefix + "httpOnly"))));
+    }
+
+    return new SessionSnapshot(origin, cookies, items(properties, "localStorage."), items(properties, "sessionStorage."),
+        Long.parseLong(capturedAt));
+  }
+
+  private static Map<String, String> items(Properties properties, String prefix) {
+    Map<String, String> items = new HashMap<>();
+    for (String name : properties.stringPropertyNames()) {
+      if (name.startsWith(prefix)) {
+        items.put(name.substring(prefix.length()), properties.getProperty(name));
+      }
+    }
+    return items;
+  }
+}
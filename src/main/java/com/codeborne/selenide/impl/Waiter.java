@@ -1,6 +1,7 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.impl.PollingStrategy.Polling;
 import com.google.common.base.Predicate;
 
 import static java.lang.System.currentTimeMillis;
@@ -11,9 +12,13 @@ public class Waiter {
   }
 
   public <T> void wait(T subject, Predicate<T> condition, long timeout, long pollingInterval) {
-    for (long start = currentTimeMillis();
-         !isTimeoutExceeded(timeout, start) && !condition.apply(subject); ) {
-      sleep(pollingInterval);
+    Polling polling = PollingStrategies.current().start(condition.getClass().getName(), timeout, pollingInterval);
+    for (long start = currentTimeMillis(); !isTimeoutExceeded(timeout, start); ) {
+      if (condition.apply(subject)) {
+        polling.succeeded();
+        return;
+      }
+      sleep(polling.nextDelay());
     }
   }
 
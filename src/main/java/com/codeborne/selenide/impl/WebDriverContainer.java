@@ -15,6 +15,12 @@ public interface WebDriverContainer {
   void closeWebDriver();
   boolean hasWebDriverStarted();
 
+  /**
+   * Starts browser in background, so that it's ready when a test needs it.
+   */
+  default void prewarm() {
+  }
+
   void clearBrowserCache();
   String getPageSource();
   String getCurrentUrl();
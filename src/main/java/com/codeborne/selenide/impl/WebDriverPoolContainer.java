@@ -0,0 +1,296 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.Configuration.holdBrowserOpen;
+import static com.codeborne.selenide.impl.Describe.describe;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.logging.Level.FINE;
+
+/**
+ * Keeps up to {@code size} browsers open and leases them to threads instead of starting a new browser every time.
+ *
+ * When a thread closes its webdriver (e.g. by {@link com.codeborne.selenide.Selenide#close()} or when the thread dies),
+ * the browser is not closed. Instead, its state is reset (extra windows are closed, cookies, local and session storage are cleared,
+ * "about:blank" is opened) and the browser is returned to the pool. If the state cannot be reset, the browser is closed
+ * and replaced by a new one.
+ *
+ * NB! Only cookies of the currently opened site can be deleted by webdriver.
+ * Cookies of other sites visited by the previous test are kept.
+ *
+ * Usage:
+ * <pre>
+ *   WebDriverRunner.webdriverContainer = new WebDriverPoolContainer(4).prestart();
+ * </pre>
+ */
+public class WebDriverPoolContainer extends WebDriverThreadLocalContainer {
+  private static final Logger log = Logger.getLogger(WebDriverPoolContainer.class.getName());
+  private static final long LEASE_POLLING_INTERVAL_MS = 1000;
+
+  private final int size;
+  private final AtomicInteger slots = new AtomicInteger();
+  private final BlockingQueue<PooledBrowser> idle = new LinkedBlockingQueue<>();
+  private final Map<WebDriver, PooledBrowser> browsers = new ConcurrentHashMap<>();
+  private final ExecutorService starter = Executors.newCachedThreadPool(daemonThreads("Webdriver pool starter"));
+  private volatile boolean closed;
+
+  private final AtomicLong leases = new AtomicLong();
+  private final AtomicLong leaseWaitMs = new AtomicLong();
+  private final AtomicLong resets = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  static class PooledBrowser extends StartedBrowser {
+    PooledBrowser(WebDriver webDriver, SelenideProxyServer proxyServer) {
+      super(webDriver, proxyServer);
+    }
+  }
+
+  /**
+   * @param size maximum number of browsers opened at the same time
+   */
+  public WebDriverPoolContainer(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Pool size should be positive, but was: " + size);
+    }
+    this.size = size;
+  }
+
+  /**
+   * Starts all browsers of the pool in background threads, so that they are ready when tests need them.
+   */
+  public WebDriverPoolContainer prestart() {
+    while (reserveSlot()) {
+      starter.submit(this::startInBackground);
+    }
+    return this;
+  }
+
+  private void startInBackground() {
+    try {
+      idle.offer(startPooledBrowser());
+    }
+    catch (RuntimeException e) {
+      slots.decrementAndGet();
+      log.severe("Failed to start browser for pool: " + Cleanup.of.webdriverExceptionMessage(e));
+    }
+  }
+
+  private boolean reserveSlot() {
+    while (true) {
+      int used = slots.get();
+      if (used >= size) return false;
+      if (slots.compareAndSet(used, used + 1)) return true;
+    }
+  }
+
+  @Override
+  protected WebDriver createDriver() {
+    long start = currentTimeMillis();
+    PooledBrowser browser = lease();
+    leases.incrementAndGet();
+    leaseWaitMs.addAndGet(currentTimeMillis() - start);
+
+    if (browser.proxyServer != null) {
+      THREAD_PROXY_SERVER.put(currentThread().getId(), browser.proxyServer);
+    }
+    log.info("Lease webdriver to thread " + currentThread().getId() + ": " + describe(browser.webDriver) + " -> " + browser.webDriver);
+    return markForAutoClose(browser.webDriver);
+  }
+
+  private PooledBrowser lease() {
+    if (closed) {
+      throw new IllegalStateException("Webdriver pool is already shut down");
+    }
+    try {
+      while (true) {
+        PooledBrowser browser = idle.poll();
+        if (browser != null) return browser;
+
+        if (reserveSlot()) {
+          try {
+            return startPooledBrowser();
+          }
+          catch (RuntimeException e) {
+            slots.decrementAndGet();
+            throw e;
+          }
+        }
+
+        browser = idle.poll(LEASE_POLLING_INTERVAL_MS, MILLISECONDS);
+        if (browser != null) return browser;
+      }
+    }
+    catch (InterruptedException e) {
+      currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a browser from pool", e);
+    }
+  }
+
+  private PooledBrowser startPooledBrowser() {
+    StartedBrowser started = startBrowser();
+    WebDriver webDriver = addListeners(started.webDriver);
+    PooledBrowser browser = new PooledBrowser(webDriver, started.proxyServer);
+    browsers.put(webDriver, browser);
+    addShutdownHookIfNeeded();
+    log.info("Started webdriver for pool: " + describe(webDriver) + " -> " + webDriver);
+    return browser;
+  }
+
+  /**
+   * Same as {@link #prestart()}: starts all browsers of the pool in background.
+   */
+  @Override
+  public void prewarm() {
+    prestart();
+  }
+
+  /**
+   * Besides webdrivers of threads (including ones not taken from the pool), closes all pooled browsers, including idle ones.
+   */
+  @Override
+  protected void closeAllWebDrivers() {
+    if (holdBrowserOpen) return;
+
+    closed = true;
+    super.closeAllWebDrivers();
+    shutdown();
+  }
+
+  @Override
+  protected void closeWebDriver(Thread thread) {
+    WebDriver webDriver = THREAD_WEB_DRIVER.get(thread.getId());
+    PooledBrowser browser = webDriver == null ? null : browsers.get(webDriver);
+    if (browser == null) {
+      super.closeWebDriver(thread);
+      return;
+    }
+
+    ALL_WEB_DRIVERS_THREADS.remove(thread);
+    THREAD_WEB_DRIVER.remove(thread.getId());
+    THREAD_PROXY_SERVER.remove(thread.getId());
+    giveBack(browser);
+  }
+
+  private void giveBack(PooledBrowser browser) {
+    if (closed) {
+      quit(browser);
+      return;
+    }
+    try {
+      resetState(browser.webDriver);
+      resets.incrementAndGet();
+      idle.offer(browser);
+    }
+    catch (RuntimeException e) {
+      log.info("Cannot reset browser state, let's replace it: " + Cleanup.of.webdriverExceptionMessage(e));
+      evictions.incrementAndGet();
+      quit(browser);
+      starter.submit(this::startInBackground);
+    }
+  }
+
+  /**
+   * Brings browser to the state of a freshly started one.
+   */
+  protected void resetState(WebDriver webDriver) {
+    List<String> windows = new ArrayList<>(webDriver.getWindowHandles());
+    for (int i = 1; i < windows.size(); i++) {
+      webDriver.switchTo().window(windows.get(i)).close();
+    }
+    if (!windows.isEmpty()) {
+      webDriver.switchTo().window(windows.get(0));
+    }
+    webDriver.switchTo().defaultContent();
+    webDriver.manage().deleteAllCookies();
+    if (webDriver instanceof JavascriptExecutor) {
+      ((JavascriptExecutor) webDriver).executeScript(
+          "try {window.localStorage.clear(); window.sessionStorage.clear();} catch (e) {}");
+    }
+    webDriver.navigate().to("about:blank");
+    ElementsCache.instance.invalidate(webDriver);
+  }
+
+  private void quit(PooledBrowser browser) {
+    browsers.remove(browser.webDriver);
+    try {
+      log.info("Close pooled browser " + describe(browser.webDriver) + " ...");
+      browser.webDriver.quit();
+    }
+    catch (WebDriverException e) {
+      log.log(FINE, "Cannot close browser normally", e);
+    }
+    if (browser.proxyServer != null) {
+      browser.proxyServer.shutdown();
+    }
+  }
+
+  /**
+   * Closes all browsers of the pool, including leased ones.
+   */
+  public void shutdown() {
+    closed = true;
+    starter.shutdownNow();
+    for (PooledBrowser browser : browsers.values()) {
+      quit(browser);
+    }
+    idle.clear();
+    THREAD_WEB_DRIVER.clear();
+    THREAD_PROXY_SERVER.clear();
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return number of browsers waiting in the pool for the next lease
+   */
+  public int idle() {
+    return idle.size();
+  }
+
+  /**
+   * @return how many times browsers were leased to threads
+   */
+  public long leases() {
+    return leases.get();
+  }
+
+  /**
+   * @return total time (in milliseconds) that threads spent waiting for browsers from the pool
+   */
+  public long leaseWaitMs() {
+    return leaseWaitMs.get();
+  }
+
+  /**
+   * @return how many times browser state was reset before returning it to the pool
+   */
+  public long resets() {
+    return resets.get();
+  }
+
+  /**
+   * @return how many browsers were closed because their state could not be reset
+   */
+  public long evictions() {
+    return evictions.get();
+  }
+}
@@ -1,7 +1,9 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.BrowserSession;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
+import com.codeborne.selenide.proxy.SharedProxyServer;
 import com.codeborne.selenide.webdriver.WebDriverFactory;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchSessionException;
@@ -18,35 +20,51 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import static com.codeborne.selenide.Configuration.FileDownloadMode.PROXY;
+import static com.codeborne.selenide.Configuration.browserAliveCheckIntervalMs;
+import static com.codeborne.selenide.Configuration.closeBrowserAsync;
 import static com.codeborne.selenide.Configuration.closeBrowserTimeoutMs;
 import static com.codeborne.selenide.Configuration.holdBrowserOpen;
 import static com.codeborne.selenide.Configuration.reopenBrowserOnFail;
+import static com.codeborne.selenide.Configuration.unusedWebdriversCheckIntervalMs;
 import static com.codeborne.selenide.impl.Describe.describe;
 import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
 
 public class WebDriverThreadLocalContainer implements WebDriverContainer {
   private static final Logger log = Logger.getLogger(WebDriverThreadLocalContainer.class.getName());
+  private static final int CLOSE_BROWSER_THREADS = 4;
 
   protected WebDriverFactory factory = new WebDriverFactory();
 
   protected List<WebDriverEventListener> listeners = new ArrayList<>();
-  protected Collection<Thread> ALL_WEB_DRIVERS_THREADS = new ConcurrentLinkedQueue<>();
+  protected Collection<Thread> ALL_WEB_DRIVERS_THREADS = ConcurrentHashMap.newKeySet();
   protected Map<Long, WebDriver> THREAD_WEB_DRIVER = new ConcurrentHashMap<>(4);
   protected Map<Long, SelenideProxyServer> THREAD_PROXY_SERVER = new ConcurrentHashMap<>(4);
   protected Proxy proxy;
 
   protected final AtomicBoolean cleanupThreadStarted = new AtomicBoolean(false);
+  private final AtomicBoolean shutdownHookAdded = new AtomicBoolean(false);
+  private final AtomicLong reapedWebdrivers = new AtomicLong();
+  protected final PrewarmedBrowsers prewarmedBrowsers = new PrewarmedBrowsers();
+
+  private final BrowserLiveness liveness = new BrowserLiveness();
+  private final BackgroundCloser backgroundCloser = new BackgroundCloser(CLOSE_BROWSER_THREADS);
 
   protected void closeUnusedWebdrivers() {
     for (Thread thread : ALL_WEB_DRIVERS_THREADS) {
       if (!thread.isAlive()) {
         log.info("Thread " + thread.getId() + " is dead. Let's close webdriver " + THREAD_WEB_DRIVER.get(thread.getId()));
+        reapedWebdrivers.incrementAndGet();
         closeWebDriver(thread);
       }
     }
@@ -69,8 +87,12 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   }
 
   protected boolean isBrowserStillOpen(WebDriver webDriver) {
+    if (liveness.isRecentlyAlive(webDriver, browserAliveCheckIntervalMs)) {
+      return true;
+    }
     try {
       webDriver.getTitle();
+      liveness.alive(webDriver);
       return true;
     } catch (UnreachableBrowserException e) {
       log.log(FINE, "Browser is unreachable", e);
@@ -138,6 +160,17 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
         log.info("Close proxy server: " + thread.getId() + " -> " + proxy);
       }
 
+      if (BackgroundCloser.isClosingAll()) {
+        // closeAllWebDrivers waits for all browsers at once
+        new CloseBrowser(webdriver, proxy).run();
+        return;
+      }
+
+      if (closeBrowserAsync && !(currentThread() instanceof WebdriversFinalCleanupThread)) {
+        closeInBackground(thread, webdriver, proxy);
+        return;
+      }
+
       long start = System.currentTimeMillis();
 
       Thread t = new Thread(new CloseBrowser(webdriver, proxy));
@@ -162,6 +195,32 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
     }
   }
 
+  private void closeInBackground(Thread thread, WebDriver webdriver, SelenideProxyServer proxy) {
+    backgroundCloser.close(new CloseBrowser(webdriver, proxy), "webdriver " + thread.getId());
+  }
+
+  /**
+   * @return number of browsers being closed in background (see {@link Configuration#closeBrowserAsync})
+   */
+  public int pendingCloses() {
+    return backgroundCloser.pending();
+  }
+
+  /**
+   * Waits until all browsers closed in background are closed, but not longer than {@link Configuration#closeBrowserTimeoutMs}.
+   */
+  public void waitForPendingCloses() {
+    backgroundCloser.waitForPending(closeBrowserTimeoutMs);
+  }
+
+  protected static ThreadFactory daemonThreads(String name) {
+    return runnable -> {
+      Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
   private static class CloseBrowser implements Runnable {
     private final WebDriver webdriver;
     private final SelenideProxyServer proxy;
@@ -214,25 +273,77 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   }
 
   protected WebDriver createDriver() {
+    StartedBrowser browser = takePrewarmedBrowser();
+    if (browser == null) {
+      browser = startBrowser();
+    }
+    if (browser.proxyServer != null) {
+      THREAD_PROXY_SERVER.put(currentThread().getId(), browser.proxyServer);
+    }
+
+    log.info("Create webdriver in current thread " + currentThread().getId() + ": " +
+      describe(browser.webDriver) + " -> " + browser.webDriver);
+
+    return markForAutoClose(addListeners(browser.webDriver));
+  }
+
+  /**
+   * Starts browser (and selenide proxy server if needed) without binding it to any thread.
+   */
+  protected StartedBrowser startBrowser() {
     Proxy userProvidedProxy = proxy;
+    SelenideProxyServer selenideProxyServer = null;
 
     if (Configuration.fileDownload == PROXY) {
-      SelenideProxyServer selenideProxyServer = new SelenideProxyServer(proxy);
+      selenideProxyServer = Configuration.sharedProxyServer && proxy == null ?
+          SharedProxyServer.instance.newSession() : new SelenideProxyServer(proxy);
       selenideProxyServer.start();
-      THREAD_PROXY_SERVER.put(currentThread().getId(), selenideProxyServer);
       userProvidedProxy = selenideProxyServer.createSeleniumProxy();
     }
 
-    WebDriver webdriver = factory.createWebDriver(userProvidedProxy);
+    return new StartedBrowser(factory.createWebDriver(userProvidedProxy), selenideProxyServer);
+  }
 
-    log.info("Create webdriver in current thread " + currentThread().getId() + ": " +
-      describe(webdriver) + " -> " + webdriver);
+  /**
+   * Starts a new browser that is not bound to any thread.
+   */
+  public BrowserSession startSession() {
+    StartedBrowser browser = startBrowser();
+    log.info("Create webdriver for session: " + describe(browser.webDriver) + " -> " + browser.webDriver);
+    return new BrowserSession(addListeners(browser.webDriver), browser.proxyServer);
+  }
+
+  protected static class StartedBrowser {
+    final WebDriver webDriver;
+    final SelenideProxyServer proxyServer;
 
-    return markForAutoClose(addListeners(webdriver));
+    StartedBrowser(WebDriver webDriver, SelenideProxyServer proxyServer) {
+      this.webDriver = webDriver;
+      this.proxyServer = proxyServer;
+    }
+  }
+
+  /**
+   * Starts a browser in background thread. The first thread that needs a webdriver
+   * will get this browser instead of starting a new one.
+   */
+  @Override
+  public void prewarm() {
+    prewarmedBrowsers.start(this::startBrowser, this::closePrewarmedBrowser);
+  }
+
+  protected StartedBrowser takePrewarmedBrowser() {
+    return prewarmedBrowsers.take();
+  }
+
+  private void closePrewarmedBrowser(StartedBrowser browser) {
+    if (!holdBrowserOpen) {
+      new CloseBrowser(browser.webDriver, browser.proxyServer).run();
+    }
   }
 
   protected WebDriver addListeners(WebDriver webdriver) {
-    if (listeners.isEmpty()) {
+    if (listeners.isEmpty() && browserAliveCheckIntervalMs <= 0) {
       return webdriver;
     }
 
@@ -241,54 +352,80 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
       log.info("Add listener to webdriver: " + listener);
       wrapper.register(listener);
     }
+    if (browserAliveCheckIntervalMs > 0) {
+      liveness.track(wrapper);
+    }
     return wrapper;
   }
 
   protected WebDriver markForAutoClose(WebDriver webDriver) {
     ALL_WEB_DRIVERS_THREADS.add(currentThread());
+    startCleanupThreadIfNeeded();
+    addShutdownHookIfNeeded();
+    return webDriver;
+  }
 
+  /**
+   * Starts checking (every {@link Configuration#unusedWebdriversCheckIntervalMs}) if threads that opened webdrivers are still alive.
+   * Webdrivers of dead threads are closed.
+   */
+  protected void startCleanupThreadIfNeeded() {
     if (!cleanupThreadStarted.get()) {
       synchronized (this) {
         if (!cleanupThreadStarted.get()) {
-          new UnusedWebdriversCleanupThread().start();
+          ScheduledExecutorService killer = Executors.newSingleThreadScheduledExecutor(daemonThreads("Webdrivers killer thread"));
+          killer.scheduleWithFixedDelay(this::closeUnusedWebdriversSafely,
+              unusedWebdriversCheckIntervalMs, unusedWebdriversCheckIntervalMs, MILLISECONDS);
           cleanupThreadStarted.set(true);
         }
       }
     }
-    Runtime.getRuntime().addShutdownHook(new WebdriversFinalCleanupThread(currentThread()));
-    return webDriver;
   }
 
-  protected class WebdriversFinalCleanupThread extends Thread {
-    private final Thread thread;
+  private void closeUnusedWebdriversSafely() {
+    try {
+      closeUnusedWebdrivers();
+    }
+    catch (RuntimeException e) {
+      log.log(WARNING, "Failed to close unused webdrivers", e);
+    }
+  }
 
-    public WebdriversFinalCleanupThread(Thread thread) {
-      this.thread = thread;
+  /**
+   * Registers a single shutdown hook that closes webdrivers of all threads.
+   */
+  protected void addShutdownHookIfNeeded() {
+    if (shutdownHookAdded.compareAndSet(false, true)) {
+      Runtime.getRuntime().addShutdownHook(new WebdriversFinalCleanupThread());
     }
+  }
 
-    @Override
-    public void run() {
-      closeWebDriver(thread);
+  /**
+   * Closes webdrivers of all threads. Called by the shutdown hook before JVM exit.
+   */
+  protected void closeAllWebDrivers() {
+    List<Runnable> closes = new ArrayList<>();
+    for (Thread thread : ALL_WEB_DRIVERS_THREADS) {
+      closes.add(() -> closeWebDriver(thread));
     }
+    BackgroundCloser.closeAll(closes, closeBrowserTimeoutMs);
+  }
+
+  /**
+   * @return number of webdrivers closed because threads that opened them are dead
+   */
+  public long reapedWebdrivers() {
+    return reapedWebdrivers.get();
   }
 
-  protected class UnusedWebdriversCleanupThread extends Thread {
-    public UnusedWebdriversCleanupThread() {
-      setDaemon(true);
-      setName("Webdrivers killer thread");
+  protected class WebdriversFinalCleanupThread extends Thread {
+    public WebdriversFinalCleanupThread() {
+      setName("Webdrivers final cleanup");
     }
 
     @Override
     public void run() {
-      while (true) {
-        closeUnusedWebdrivers();
-        try {
-          Thread.sleep(100);
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          break;
-        }
-      }
+      closeAllWebDrivers();
     }
   }
 }
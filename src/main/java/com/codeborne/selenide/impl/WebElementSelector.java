@@ -1,20 +1,19 @@
 package com.codeborne.selenide.impl;
 
-import org.apache.commons.io.IOUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.By.ByCssSelector;
 import org.openqa.selenium.SearchContext;
-import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import static com.codeborne.selenide.Configuration.SelectorMode.CSS;
 import static com.codeborne.selenide.Configuration.selectorMode;
 import static com.codeborne.selenide.Selenide.executeJavaScript;
-import static java.lang.Thread.currentThread;
+import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
 
 /**
  * Thanks to http://selenium.polteq.com/en/injecting-the-sizzle-css-selector-library/
@@ -22,7 +21,9 @@ import static java.lang.Thread.currentThread;
 public class WebElementSelector {
   public static WebElementSelector instance = new WebElementSelector();
 
-  protected String sizzleSource;
+  private static final String SIZZLE_IF_LOADED = "return typeof Sizzle == 'undefined' ? null : Sizzle(arguments[0], arguments[1]);";
+
+  private final Map<WebDriver, Long> sizzleInjectedAt = new WeakHashMap<>();
 
   public WebElement findElement(SearchContext context, By selector) {
     if (selectorMode == CSS || !(selector instanceof ByCssSelector)) {
@@ -42,40 +43,44 @@ public class WebElementSelector {
   }
 
   protected List<WebElement> evaluateSizzleSelector(SearchContext context, ByCssSelector sizzleCssSelector) {
-    injectSizzleIfNeeded();
-
     String sizzleSelector = sizzleCssSelector.toString()
         .replace("By.selector: ", "")
         .replace("By.cssSelector: ", "");
+    WebElement parent = context instanceof WebElement ? (WebElement) context : null;
 
-    if (context instanceof WebElement)
-      return executeJavaScript("return Sizzle(arguments[0], arguments[1])", sizzleSelector, context);
-    else
-      return executeJavaScript("return Sizzle(arguments[0])", sizzleSelector);
+    WebDriver webDriver = getWebDriver();
+    if (isSizzleInjected(webDriver)) {
+      List<WebElement> webElements = executeJavaScript(SIZZLE_IF_LOADED, sizzleSelector, parent);
+      if (webElements != null) {
+        return webElements;
+      }
+    }
+
+    List<WebElement> webElements = executeJavaScript(loadSizzleSource() + "\nreturn Sizzle(arguments[0], arguments[1]);",
+        sizzleSelector, parent);
+    markSizzleInjected(webDriver);
+    return webElements;
   }
 
-  protected void injectSizzleIfNeeded() {
-    if (!sizzleLoaded()) {
-      injectSizzle();
+  /**
+   * Sizzle is injected once per document. Document changes either by Selenide navigation methods
+   * (tracked by {@link ElementsCache#invalidate(WebDriver)}) or by actions like clicking a link
+   * (detected when {@link #SIZZLE_IF_LOADED} returns null).
+   */
+  private boolean isSizzleInjected(WebDriver webDriver) {
+    synchronized (sizzleInjectedAt) {
+      Long pageVersion = sizzleInjectedAt.get(webDriver);
+      return pageVersion != null && pageVersion == ElementsCache.instance.pageVersion(webDriver);
     }
   }
 
-  protected Boolean sizzleLoaded() {
-    try {
-      return executeJavaScript("return typeof Sizzle != 'undefined'");
-    } catch (WebDriverException e) {
-      return false;
+  private void markSizzleInjected(WebDriver webDriver) {
+    synchronized (sizzleInjectedAt) {
+      sizzleInjectedAt.put(webDriver, ElementsCache.instance.pageVersion(webDriver));
     }
   }
 
-  protected synchronized void injectSizzle() {
-    if (sizzleSource == null) {
-      try {
-        sizzleSource = IOUtils.toString(currentThread().getContextClassLoader().getResource("sizzle.js"), StandardCharsets.UTF_8);
-      } catch (IOException e) {
-        throw new RuntimeException("Cannot load sizzle.js from classpath", e);
-      }
-    }
-    executeJavaScript(sizzleSource);
+  protected String loadSizzleSource() {
+    return Scripts.load("sizzle.js");
   }
 }
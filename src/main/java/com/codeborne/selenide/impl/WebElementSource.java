@@ -41,9 +41,18 @@ public abstract class WebElementSource {
     Throwable lastError = null;
     WebElement element = null;
     try {
-      element = getWebElement();
-      if (element != null && check.apply(element)) {
-        return element;
+      JsConditions.Result result = checkInBrowser(check);
+      if (result != null) {
+        element = result.element;
+        if (element != null && result.matches) {
+          return element;
+        }
+      }
+      else {
+        element = getWebElement();
+        if (element != null && check.apply(element)) {
+          return element;
+        }
       }
     }
     catch (Throwable e) {
@@ -68,6 +77,39 @@ public abstract class WebElementSource {
     return null;
   }
 
+  /**
+   * @return true if element is found and matches all given conditions.
+   * Checks conditions in browser with a single JavaScript call, if possible.
+   * Returns false if the conditions cannot be checked in browser.
+   */
+  public boolean matchesInBrowser(List<Condition> conditions) {
+    try {
+      JsConditions.Result result = checkInBrowser(Condition.and("all", conditions.toArray(new Condition[0])));
+      return result != null && result.matches;
+    }
+    catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  /**
+   * @return null if condition cannot be checked in browser
+   */
+  protected JsConditions.Result checkInBrowser(Condition condition) {
+    if (!JsConditions.instance.isEnabled() || condition.compileToJs() == null) {
+      return null;
+    }
+    List<Object> locator = getJsLocator();
+    return locator == null ? null : JsConditions.instance.check(locator, condition);
+  }
+
+  /**
+   * @return locator for finding this element by JavaScript, or null if it's not possible
+   */
+  protected List<Object> getJsLocator() {
+    return null;
+  }
+
   public WebElement findAndAssertElementIsVisible() {
     return checkCondition("be ", null, visible, false);
   }
@@ -20,4 +20,14 @@ public interface WebElementsCollection {
   List<WebElement> getActualElements();
 
   String description();
+
+  /**
+   * fetches the current collection state together with texts, visibility and given attributes of all elements
+   * (by a single JavaScript call if possible)
+   *
+   * @see ElementsSnapshot
+   */
+  default ElementsSnapshot snapshot(String... attributeNames) {
+    return ElementsSnapshot.of(getActualElements(), attributeNames);
+  }
 }
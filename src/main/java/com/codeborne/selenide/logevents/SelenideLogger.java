@@ -1,25 +1,37 @@
 package com.codeborne.selenide.logevents;
 
+import com.codeborne.selenide.BrowserSession;
+
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
 
 /**
  * Logs Selenide test steps and notifies all registered LogEventListener about it
+ *
+ * Listeners are bound to the current thread, or to the current {@link BrowserSession} if it's added inside of the session.
+ * Steps executed in a session are reported to listeners of the session and listeners of the thread executing the step.
  */
 public class SelenideLogger {
   protected static ThreadLocal<Map<String, LogEventListener>> listeners = new ThreadLocal<>();
 
   /**
-   * Add a listener (to the current thread).
-   * @param name unique name of this listener (per thread). 
+   * Add a listener (to the current session or the current thread).
+   * @param name unique name of this listener (per session or thread). 
    *             Can be used later to remove listener using method {@link #removeListener(String)}
    * @param listener event listener
    */
   public static void addListener(String name, LogEventListener listener) {
+    BrowserSession session = BrowserSession.current();
+    if (session != null) {
+      session.logEventListeners().put(name, listener);
+      return;
+    }
+
     Map<String, LogEventListener> threadListeners = listeners.get();
     if (threadListeners == null) {
       threadListeners = new HashMap<>();
@@ -69,33 +81,53 @@ public class SelenideLogger {
     if (listeners.get() == null) {
       listeners.set(new HashMap<String, LogEventListener>());
     }
-    return listeners.get().values();
+    BrowserSession session = BrowserSession.current();
+    if (session == null || session.logEventListeners().isEmpty()) {
+      return listeners.get().values();
+    }
+
+    Map<String, LogEventListener> all = new LinkedHashMap<>(listeners.get());
+    all.putAll(session.logEventListeners());
+    return all.values();
   }
 
   /**
-   * Remove listener (from the current thread).
+   * Remove listener (from the current session or the current thread).
    * @param name unique name of listener added by method {@link #addListener(String, LogEventListener)}
    * @param <T> class of listener to be returned
    * @return the listener being removed
    */
   @SuppressWarnings("unchecked")
   public static <T extends LogEventListener> T removeListener(String name) {
+    BrowserSession session = BrowserSession.current();
+    if (session != null && session.logEventListeners().containsKey(name)) {
+      return (T) session.logEventListeners().remove(name);
+    }
+
     Map<String, LogEventListener> listeners = SelenideLogger.listeners.get();
     return listeners == null ? null : (T) listeners.remove(name);
   }
   
   public static void removeAllListeners() {
+    BrowserSession session = BrowserSession.current();
+    if (session != null) {
+      session.logEventListeners().clear();
+    }
     SelenideLogger.listeners.remove();
   }
 
   /**
-   * If listener with given name is bound (added) to the current thread.
+   * If listener with given name is bound (added) to the current session or the current thread.
    *
    * @param name unique name of listener added by method {@link #addListener(String, LogEventListener)}
    * @return true iff method {@link #addListener(String, LogEventListener)} with 
-   *              corresponding name has been called in current thread. 
+   *              corresponding name has been called in current session or current thread. 
    */
   public static boolean hasListener(String name) {
+    BrowserSession session = BrowserSession.current();
+    if (session != null && session.logEventListeners().containsKey(name)) {
+      return true;
+    }
     Map<String, LogEventListener> listeners = SelenideLogger.listeners.get();
     return listeners != null && listeners.containsKey(name);
   }
@@ -23,17 +23,7 @@ import static java.lang.Integer.parseInt;
 public class SelenideProxyServer {
   protected final Proxy outsideProxy;
 
-  protected BrowserMobProxy proxy = new BrowserMobProxyServer() {
-    int maxSize = 64 * 1024 * 1024; // 64 MB
-    @Override
-    public void addRequestFilter(RequestFilter filter) {
-      addFirstHttpFilterFactory(new RequestFilterAdapter.FilterSource(filter, maxSize));
-    }
-
-    @Override public void addResponseFilter(ResponseFilter filter) {
-      addLastHttpFilterFactory(new ResponseFilterAdapter.FilterSource(filter, maxSize));
-    }
-  };
+  protected BrowserMobProxy proxy;
 
   /**
    * Method return current instance of browser mob proxy
@@ -55,7 +45,30 @@ public class SelenideProxyServer {
    * @param outsideProxy another proxy server used by test author for his own need (can be null)
    */
   public SelenideProxyServer(Proxy outsideProxy) {
+    this(outsideProxy, createBrowserMobProxy());
+  }
+
+  /**
+   * @param outsideProxy another proxy server used by test author for his own need (can be null)
+   * @param proxy browser mob proxy doing the work, or null for subclasses which proxy traffic by other means
+   */
+  protected SelenideProxyServer(Proxy outsideProxy, BrowserMobProxy proxy) {
     this.outsideProxy = outsideProxy;
+    this.proxy = proxy;
+  }
+
+  private static BrowserMobProxy createBrowserMobProxy() {
+    return new BrowserMobProxyServer() {
+      int maxSize = 64 * 1024 * 1024; // 64 MB
+      @Override
+      public void addRequestFilter(RequestFilter filter) {
+        addFirstHttpFilterFactory(new RequestFilterAdapter.FilterSource(filter, maxSize));
+      }
+
+      @Override public void addResponseFilter(ResponseFilter filter) {
+        addLastHttpFilterFactory(new ResponseFilterAdapter.FilterSource(filter, maxSize));
+      }
+    };
   }
 
   /**
@@ -0,0 +1,235 @@
+package com.codeborne.selenide.proxy;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import net.lightbody.bmp.BrowserMobProxy;
+import net.lightbody.bmp.client.ClientUtil;
+import net.lightbody.bmp.filters.HttpsOriginalHostCaptureFilter;
+import net.lightbody.bmp.filters.ModifiedRequestAwareFilter;
+import net.lightbody.bmp.filters.RequestFilter;
+import net.lightbody.bmp.filters.RequestFilterAdapter;
+import net.lightbody.bmp.filters.ResponseFilter;
+import net.lightbody.bmp.filters.ResponseFilterAdapter;
+import net.lightbody.bmp.mitm.manager.ImpersonatingMitmManager;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersAdapter;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
+import org.littleshoot.proxy.HttpProxyServer;
+import org.littleshoot.proxy.impl.DefaultHttpProxyServer;
+import org.littleshoot.proxy.impl.ThreadPoolConfiguration;
+import org.openqa.selenium.Proxy;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.Configuration.sharedProxyServerThreads;
+
+/**
+ * One proxy server shared by all browsers (see {@link com.codeborne.selenide.Configuration#sharedProxyServer}).
+ *
+ * Every browser gets its own {@link SelenideProxyServer} with its own port and filters,
+ * but all of them share the same threads. Requests are routed to filters of the session by the port
+ * that browser is connected to.
+ *
+ * The server is started when the first session is started, and stopped when the last session is closed.
+ */
+public class SharedProxyServer {
+  private static final Logger log = Logger.getLogger(SharedProxyServer.class.getName());
+  private static final int MAX_SIZE = 64 * 1024 * 1024; // 64 MB
+
+  public static SharedProxyServer instance = new SharedProxyServer();
+
+  private final Map<Integer, Session> sessions = new ConcurrentHashMap<>();
+  private HttpProxyServer server;
+
+  /**
+   * @return new proxy server for one browser. It's not started yet.
+   */
+  public SelenideProxyServer newSession() {
+    return new Session(this);
+  }
+
+  synchronized int register(Session session) {
+    if (server == null) {
+      server = DefaultHttpProxyServer.bootstrap()
+          .withPort(0)
+          .withAllowLocalOnly(false)
+          .withManInTheMiddle(ImpersonatingMitmManager.builder().trustAllServers(true).build())
+          .withFiltersSource(new Routing())
+          .withThreadPoolConfiguration(new ThreadPoolConfiguration()
+              .withAcceptorThreads(1)
+              .withClientToProxyWorkerThreads(sharedProxyServerThreads)
+              .withProxyToServerWorkerThreads(sharedProxyServerThreads))
+          .start();
+      log.info("Started shared proxy server :" + server.getListenAddress().getPort());
+    }
+
+    session.server = server.clone().withPort(0).start();
+    int port = session.server.getListenAddress().getPort();
+    sessions.put(port, session);
+    return port;
+  }
+
+  synchronized void unregister(Session session) {
+    if (session.server == null) return;
+
+    sessions.remove(session.port);
+    session.server.abort();
+    session.server = null;
+
+    if (sessions.isEmpty() && server != null) {
+      log.info("Stop shared proxy server :" + server.getListenAddress().getPort());
+      server.abort();
+      server = null;
+    }
+  }
+
+  /**
+   * @return number of browsers using this proxy server
+   */
+  public int activeSessions() {
+    return sessions.size();
+  }
+
+  private Session sessionOf(ChannelHandlerContext ctx) {
+    SocketAddress address = ctx == null ? null : ctx.channel().localAddress();
+    return address instanceof InetSocketAddress ? sessions.get(((InetSocketAddress) address).getPort()) : null;
+  }
+
+  private class Routing extends HttpFiltersSourceAdapter {
+    @Override
+    public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+      Session session = sessionOf(ctx);
+      if (session == null) return null;
+
+      List<HttpFiltersAdapter> filters = new ArrayList<>();
+      filters.add(new HttpsOriginalHostCaptureFilter(originalRequest, ctx));
+      for (RequestFilter filter : session.requestChain) {
+        filters.add(new RequestFilterAdapter(originalRequest, ctx, filter));
+      }
+      for (ResponseFilter filter : session.responseChain) {
+        filters.add(new ResponseFilterAdapter(originalRequest, ctx, filter));
+      }
+      return new Chain(originalRequest, ctx, filters);
+    }
+
+    @Override
+    public int getMaximumRequestBufferSizeInBytes() {
+      return MAX_SIZE;
+    }
+
+    @Override
+    public int getMaximumResponseBufferSizeInBytes() {
+      return MAX_SIZE;
+    }
+  }
+
+  /**
+   * Runs filters of one session in the same way as {@link net.lightbody.bmp.BrowserMobProxyServer} does.
+   */
+  private static class Chain extends HttpFiltersAdapter {
+    private final List<HttpFiltersAdapter> filters;
+
+    Chain(HttpRequest originalRequest, ChannelHandlerContext ctx, List<HttpFiltersAdapter> filters) {
+      super(originalRequest, ctx);
+      this.filters = filters;
+    }
+
+    @Override
+    public HttpResponse clientToProxyRequest(HttpObject httpObject) {
+      for (HttpFiltersAdapter filter : filters) {
+        HttpResponse shortCircuitResponse = filter.clientToProxyRequest(httpObject);
+        if (shortCircuitResponse != null) return shortCircuitResponse;
+      }
+
+      if (httpObject instanceof HttpRequest) {
+        for (HttpFiltersAdapter filter : filters) {
+          if (filter instanceof ModifiedRequestAwareFilter) {
+            ((ModifiedRequestAwareFilter) filter).setModifiedHttpRequest((HttpRequest) httpObject);
+          }
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public HttpObject serverToProxyResponse(HttpObject httpObject) {
+      HttpObject processed = httpObject;
+      for (HttpFiltersAdapter filter : filters) {
+        processed = filter.serverToProxyResponse(processed);
+        if (processed == null) return null;
+      }
+      return processed;
+    }
+  }
+
+  static class Session extends SelenideProxyServer {
+    private final SharedProxyServer shared;
+    final List<RequestFilter> requestChain = new CopyOnWriteArrayList<>();
+    final List<ResponseFilter> responseChain = new CopyOnWriteArrayList<>();
+    volatile HttpProxyServer server;
+
+    Session(SharedProxyServer shared) {
+      super(null, null);
+      this.shared = shared;
+    }
+
+    @Override
+    public void start() {
+      addRequestFilter("requestSizeWatchdog", new RequestSizeWatchdog());
+      addResponseFilter("responseSizeWatchdog", new ResponseSizeWatchdog());
+      addResponseFilter("download", new FileDownloadFilter());
+      port = shared.register(this);
+    }
+
+    @Override
+    public void addRequestFilter(String name, RequestFilter requestFilter) {
+      if (requestFilters.putIfAbsent(name, requestFilter) != null) {
+        throw new IllegalArgumentException("Duplicate request filter: " + name);
+      }
+      requestChain.add(0, requestFilter);
+    }
+
+    @Override
+    public void addResponseFilter(String name, ResponseFilter responseFilter) {
+      if (responseFilters.putIfAbsent(name, responseFilter) != null) {
+        throw new IllegalArgumentException("Duplicate response filter: " + name);
+      }
+      responseChain.add(responseFilter);
+    }
+
+    @Override
+    public Proxy createSeleniumProxy() {
+      return ClientUtil.createSeleniumProxy(new InetSocketAddress(ClientUtil.getConnectableAddress(), port));
+    }
+
+    /**
+     * Shared proxy server is not a BrowserMob proxy: HAR recording and other BrowserMob features are not available.
+     * Use {@link #addRequestFilter} and {@link #addResponseFilter} to track or modify traffic of the browser.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public BrowserMobProxy getProxy() {
+      throw new UnsupportedOperationException("BrowserMob proxy is not available with shared proxy server");
+    }
+
+    @Override
+    public void shutdown() {
+      shared.unregister(this);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Selenide shared proxy server :%s", port);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.codeborne.selenide.webdriver;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Remembers paths of webdriver binaries resolved by WebDriverManager, so that next runs don't need to resolve them again.
+ * Entries are stored per operating system and architecture, and are ignored if the binary doesn't exist anymore,
+ * was replaced since it was cached (its size or modification time changed),
+ * or another version is requested by WebDriverManager system property (e.g. "wdm.chromeDriverVersion").
+ */
+class DriverBinaryCache {
+  private static final Logger log = Logger.getLogger(DriverBinaryCache.class.getName());
+  private static final Map<String, String> VERSION_PROPERTIES = new HashMap<>();
+
+  static {
+    VERSION_PROPERTIES.put("webdriver.chrome.driver", "wdm.chromeDriverVersion");
+    VERSION_PROPERTIES.put("webdriver.edge.driver", "wdm.edgeDriverVersion");
+    VERSION_PROPERTIES.put("webdriver.ie.driver", "wdm.internetExplorerDriverVersion");
+    VERSION_PROPERTIES.put("webdriver.opera.driver", "wdm.operaDriverVersion");
+    VERSION_PROPERTIES.put("phantomjs.binary.path", "wdm.phantomjsDriverVersion");
+    VERSION_PROPERTIES.put("webdriver.gecko.driver", "wdm.geckoDriverVersion");
+  }
+
+  private final File file;
+  private Properties entries;
+
+  DriverBinaryCache() {
+    this(new File(System.getProperty("user.home"), ".cache/selenide/drivers.properties"));
+  }
+
+  DriverBinaryCache(File file) {
+    this.file = file;
+  }
+
+  /**
+   * @param driverProperty system property for the binary path, e.g. "webdriver.chrome.driver"
+   * @return path to the cached binary, or null if it's not cached or the cached binary cannot be used anymore
+   */
+  synchronized String binaryPath(String driverProperty) {
+    String path = load().getProperty(key(driverProperty));
+    if (path == null) return null;
+
+    File binary = new File(path);
+    if (!binary.canExecute()) {
+      log.info("Cached webdriver binary " + path + " is not found, let's resolve it again");
+      return null;
+    }
+
+    String cachedVersion = version(driverProperty);
+    String requestedVersion = requestedVersion(driverProperty);
+    if (requestedVersion != null && !requestedVersion.equals(cachedVersion)) {
+      log.info("Cached webdriver binary " + path + " has version " + cachedVersion + ", but " + requestedVersion +
+          " is requested, let's resolve it again");
+      return null;
+    }
+
+    if (!fingerprint(binary).equals(load().getProperty(key(driverProperty) + ".fingerprint"))) {
+      log.info("Cached webdriver binary " + path + " has changed, let's resolve it again");
+      return null;
+    }
+    return path;
+  }
+
+  synchronized String version(String driverProperty) {
+    return load().getProperty(key(driverProperty) + ".version");
+  }
+
+  synchronized void save(String driverProperty, String binaryPath, String version) {
+    if (binaryPath == null) return;
+
+    Properties entries = load();
+    entries.setProperty(key(driverProperty), binaryPath);
+    entries.setProperty(key(driverProperty) + ".fingerprint", fingerprint(new File(binaryPath)));
+    if (version != null) {
+      entries.setProperty(key(driverProperty) + ".version", version);
+    }
+    else {
+      entries.remove(key(driverProperty) + ".version");
+    }
+
+    try {
+      write(entries);
+    }
+    catch (IOException e) {
+      log.log(WARNING, "Failed to save webdriver binaries cache to " + file.getAbsolutePath(), e);
+    }
+  }
+
+  /**
+   * Writes the cache to a temporary file and then moves it in place,
+   * so that parallel test runs never read a partially written cache.
+   */
+  private void write(Properties entries) throws IOException {
+    Path folder = file.getAbsoluteFile().getParentFile().toPath();
+    Files.createDirectories(folder);
+    Path temp = Files.createTempFile(folder, "drivers", ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(temp)) {
+        entries.store(out, "Webdriver binaries resolved by Selenide");
+      }
+      Files.move(temp, file.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private String requestedVersion(String driverProperty) {
+    String versionProperty = VERSION_PROPERTIES.get(driverProperty);
+    String version = versionProperty == null ? null : System.getProperty(versionProperty);
+    return version == null || version.isEmpty() || "latest".equalsIgnoreCase(version) ? null : version;
+  }
+
+  private String fingerprint(File binary) {
+    return binary.length() + ":" + binary.lastModified();
+  }
+
+  private Properties load() {
+    if (entries == null) {
+      entries = new Properties();
+      if (file.exists()) {
+        try (InputStream in = new FileInputStream(file)) {
+          entries.load(in);
+        }
+        catch (IOException e) {
+          log.log(WARNING, "Failed to read webdriver binaries cache from " + file.getAbsolutePath(), e);
+        }
+      }
+    }
+    return entries;
+  }
+
+  private String key(String driverProperty) {
+    return driverProperty + '.' + System.getProperty("os.name").replace(' ', '_') + '.' + System.getProperty("os.arch");
+  }
+}
@@ -2,6 +2,11 @@ package com.codeborne.selenide.webdriver;
 
 import io.github.bonigarcia.wdm.WebDriverManager;
 
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.Configuration.cacheDriverBinaries;
+import static com.codeborne.selenide.Configuration.offlineDriverBinaries;
 import static com.codeborne.selenide.WebDriverRunner.isChrome;
 import static com.codeborne.selenide.WebDriverRunner.isEdge;
 import static com.codeborne.selenide.WebDriverRunner.isFirefox;
@@ -11,19 +16,46 @@ import static com.codeborne.selenide.WebDriverRunner.isPhantomjs;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 public class WebDriverBinaryManager {
+  private static final Logger log = Logger.getLogger(WebDriverBinaryManager.class.getName());
+
+  DriverBinaryCache cache = new DriverBinaryCache();
+
   public void setupBinaryPath() {
-    if (isChrome() && !isSystemPropertySet("webdriver.chrome.driver")) {
-      WebDriverManager.chromedriver().setup();
-    } else if (isEdge() && !isSystemPropertySet("webdriver.edge.driver")) {
-      WebDriverManager.edgedriver().setup();
-    } else if (isIE() && !isSystemPropertySet("webdriver.ie.driver")) {
-      WebDriverManager.iedriver().setup();
-    } else if (isOpera() && !isSystemPropertySet("webdriver.opera.driver")) {
-      WebDriverManager.operadriver().setup();
-    } else if (isPhantomjs() && !isSystemPropertySet("phantomjs.binary.path")) {
-      WebDriverManager.phantomjs().setup();
-    } else if (isFirefox() && !isSystemPropertySet("webdriver.gecko.driver")) {
-      WebDriverManager.firefoxdriver().setup();
+    if (isChrome()) {
+      setup("webdriver.chrome.driver", WebDriverManager::chromedriver);
+    } else if (isEdge()) {
+      setup("webdriver.edge.driver", WebDriverManager::edgedriver);
+    } else if (isIE()) {
+      setup("webdriver.ie.driver", WebDriverManager::iedriver);
+    } else if (isOpera()) {
+      setup("webdriver.opera.driver", WebDriverManager::operadriver);
+    } else if (isPhantomjs()) {
+      setup("phantomjs.binary.path", WebDriverManager::phantomjs);
+    } else if (isFirefox()) {
+      setup("webdriver.gecko.driver", WebDriverManager::firefoxdriver);
+    }
+  }
+
+  protected void setup(String driverProperty, Supplier<WebDriverManager> manager) {
+    if (isSystemPropertySet(driverProperty)) return;
+
+    if (cacheDriverBinaries || offlineDriverBinaries) {
+      String cachedPath = cache.binaryPath(driverProperty);
+      if (cachedPath != null) {
+        log.fine("Use cached webdriver binary " + cachedPath + " (" + cache.version(driverProperty) + ")");
+        System.setProperty(driverProperty, cachedPath);
+        return;
+      }
+    }
+
+    WebDriverManager webDriverManager = manager.get();
+    if (offlineDriverBinaries) {
+      webDriverManager.forceCache();
+    }
+    webDriverManager.setup();
+
+    if (cacheDriverBinaries || offlineDriverBinaries) {
+      cache.save(driverProperty, webDriverManager.getBinaryPath(), webDriverManager.getDownloadedVersion());
     }
   }
 
@@ -0,0 +1,93 @@
+/*
+ * Finds element and checks Selenide conditions in a single call.
+ * arguments[0]: locator [how, what, index, context]
+ * arguments[1]: compiled condition (see Condition.compileToJs())
+ * Returns [element, matches] or null if element is not found.
+ * Uses helper functions from helpers.js.
+ */
+var locator = arguments[0], condition = arguments[1];
+
+function toArray(nodes) {
+  var result = [];
+  for (var i = 0; i < nodes.length; i++) result.push(nodes[i]);
+  return result;
+}
+
+function filterAll(context, predicate) {
+  return toArray(context.getElementsByTagName('*')).filter(predicate);
+}
+
+function findAll(how, what, context) {
+  switch (how) {
+    case 'css':
+      return context.querySelectorAll(what);
+    case 'xpath':
+      var snapshot = document.evaluate(what, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+      var nodes = [];
+      for (var i = 0; i < snapshot.snapshotLength; i++) nodes.push(snapshot.snapshotItem(i));
+      return nodes;
+    case 'id':
+      return filterAll(context, function(e) { return e.id === what; });
+    case 'name':
+      return filterAll(context, function(e) { return e.getAttribute('name') === what; });
+    case 'className':
+      return context.getElementsByClassName(what);
+    case 'tagName':
+      return context.getElementsByTagName(what);
+  }
+  throw new Error('Unsupported locator: ' + how);
+}
+
+function find(locator) {
+  var found = findAll(locator[0], locator[1], locator[3] || document);
+  return found.length > locator[2] ? found[locator[2]] : null;
+}
+
+function reduceSpaces(text) {
+  return (text || '').replace(/\s+/g, ' ').replace(/^ | $/g, '');
+}
+
+// like WebElement.getText(), text of hidden element is empty
+function visibleText(e) {
+  return visible(e) ? text(e) : '';
+}
+
+function selectedOptionsText(e) {
+  var result = '';
+  for (var i = 0; i < e.options.length; i++) {
+    if (e.options[i].selected) result += text(e.options[i]);
+  }
+  return result;
+}
+
+function check(c, e) {
+  switch (c[0]) {
+    case 'exist': return true;
+    case 'visible': return visible(e);
+    case 'hidden': return !visible(e);
+    case 'enabled': return !e.disabled;
+    case 'disabled': return !!e.disabled;
+    case 'selected': return !!(e.checked || e.selected);
+    case 'attribute': return attribute(e, c[1]) !== null;
+    case 'attributeValue': return (attribute(e, c[1]) || '') === c[2];
+    case 'value': return reduceSpaces((attribute(e, 'value') || '').toLowerCase()).indexOf(reduceSpaces(c[1].toLowerCase())) >= 0;
+    case 'cssClass': return (e.getAttribute('class') || '').split(' ').indexOf(c[1]) >= 0;
+    case 'text':
+      var elementText = !visible(e) ? '' : e.tagName === 'SELECT' ? selectedOptionsText(e) : text(e);
+      return reduceSpaces(elementText.toLowerCase()).indexOf(reduceSpaces(c[1].toLowerCase())) >= 0;
+    case 'textCaseSensitive': return reduceSpaces(visibleText(e)).indexOf(reduceSpaces(c[1])) >= 0;
+    case 'exactText': return reduceSpaces(visibleText(e)).toLowerCase() === reduceSpaces(c[1]).toLowerCase();
+    case 'exactTextCaseSensitive': return reduceSpaces(visibleText(e)) === reduceSpaces(c[1]);
+    case 'not': return !check(c[1], e);
+    case 'and':
+      for (var i = 1; i < c.length; i++) if (!check(c[i], e)) return false;
+      return true;
+    case 'or':
+      for (var j = 1; j < c.length; j++) if (check(c[j], e)) return true;
+      return false;
+  }
+  throw new Error('Unsupported condition: ' + c[0]);
+}
+
+var element = find(locator);
+return element ? [element, check(condition, element)] : null;
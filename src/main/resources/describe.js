@@ -0,0 +1,30 @@
+/*
+ * Collects everything needed to describe elements in error messages in a single call.
+ * arguments[0]: list of elements
+ * Returns list of [tagName, {attribute: value}, text, selected, displayed]
+ * Uses helper functions from helpers.js.
+ */
+var elements = arguments[0];
+
+function attributes(e) {
+  var result = {};
+  for (var i = 0; i < e.attributes.length; i++) {
+    var a = e.attributes[i];
+    if (a.name !== 'style') {
+      result[a.name] = a.value;
+    }
+  }
+  result['value'] = e.value === undefined || e.value === null ? e.getAttribute('value') : String(e.value);
+  if (!e.hasAttribute('type') && e.type !== undefined && e.type !== null) {
+    result['type'] = String(e.type);
+  }
+  return result;
+}
+
+var result = [];
+for (var i = 0; i < elements.length; i++) {
+  var e = elements[i];
+  var displayed = visible(e);
+  result.push([e.tagName.toLowerCase(), attributes(e), displayed ? trimmedText(e) : '', !!(e.selected || e.checked), displayed]);
+}
+return result;
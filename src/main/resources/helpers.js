@@ -0,0 +1,30 @@
+/*
+ * Helper functions shared by Selenide scripts working with elements (see Scripts.withHelpers()).
+ */
+function visible(e) {
+  for (var node = e; node && node.nodeType === 1; node = node.parentNode) {
+    var style = window.getComputedStyle(node);
+    if (style.display === 'none' || parseFloat(style.opacity) === 0) return false;
+    if (node === e && (style.visibility === 'hidden' || style.visibility === 'collapse')) return false;
+  }
+  if (e.tagName === 'OPTION' || e.tagName === 'OPTGROUP') return true;
+  return e.offsetWidth > 0 || e.offsetHeight > 0 || e.getClientRects().length > 0;
+}
+
+function attribute(e, name) {
+  if (name === 'class') return e.getAttribute('class');
+  var property = e[name];
+  if (typeof property === 'boolean') return property ? 'true' : null;
+  if (property !== undefined && property !== null && typeof property !== 'object' && typeof property !== 'function') {
+    return String(property);
+  }
+  return e.getAttribute(name);
+}
+
+function text(e) {
+  return e.innerText !== undefined ? e.innerText : e.textContent;
+}
+
+function trimmedText(e) {
+  return (text(e) || '').replace(/^\s+|\s+$/g, '');
+}
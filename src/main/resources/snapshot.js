@@ -0,0 +1,20 @@
+/*
+ * Collects texts, visibility and given attributes of all elements in a single call.
+ * arguments[0]: list of elements
+ * arguments[1]: list of attribute names
+ * Returns list of [text, visible, {attribute: value}]
+ * Uses helper functions from helpers.js.
+ */
+var elements = arguments[0], attributeNames = arguments[1];
+
+var result = [];
+for (var i = 0; i < elements.length; i++) {
+  var e = elements[i];
+  var isVisible = visible(e);
+  var attributes = {};
+  for (var j = 0; j < attributeNames.length; j++) {
+    attributes[attributeNames[j]] = attribute(e, attributeNames[j]);
+  }
+  result.push([isVisible ? trimmedText(e) : '', isVisible, attributes]);
+}
+return result;
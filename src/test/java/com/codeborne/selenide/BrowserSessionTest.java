@@ -0,0 +1,199 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.ex.SoftAssertionError;
+import com.codeborne.selenide.impl.WebDriverContainer;
+import com.codeborne.selenide.logevents.ErrorsCollector;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.openqa.selenium.support.events.WebDriverEventListener;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.codeborne.selenide.Configuration.AssertionMode.SOFT;
+import static com.codeborne.selenide.Configuration.AssertionMode.STRICT;
+import static com.codeborne.selenide.logevents.ErrorsCollector.LISTENER_SOFT_ASSERT;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BrowserSessionTest {
+  private final WebDriverContainer originalContainer = WebDriverRunner.webdriverContainer;
+  private final WebDriver threadWebDriver = mock(WebDriver.class);
+  private final WebDriver sessionWebDriver = mock(WebDriver.class);
+  private final BrowserSession session = new BrowserSession(sessionWebDriver);
+
+  @Before
+  public void setUp() {
+    WebDriverRunner.webdriverContainer = mock(WebDriverContainer.class);
+    when(WebDriverRunner.webdriverContainer.getWebDriver()).thenReturn(threadWebDriver);
+    Configuration.holdBrowserOpen = false;
+  }
+
+  @After
+  public void tearDown() {
+    WebDriverRunner.webdriverContainer = originalContainer;
+  }
+
+  @Test
+  public void staticMethodsUseCurrentSession() {
+    session.run(() -> {
+      assertThat(BrowserSession.current(), is(sameInstance(session)));
+      assertThat(WebDriverRunner.getWebDriver(), is(sameInstance(sessionWebDriver)));
+      assertThat(WebDriverRunner.hasWebDriverStarted(), is(true));
+    });
+
+    assertThat(BrowserSession.current(), is(nullValue()));
+    assertThat(WebDriverRunner.getWebDriver(), is(sameInstance(threadWebDriver)));
+  }
+
+  @Test
+  public void restoresPreviousSessionAfterNestedSession() {
+    BrowserSession nested = new BrowserSession(mock(WebDriver.class));
+
+    session.run(() -> {
+      nested.run(() -> assertThat(BrowserSession.current(), is(sameInstance(nested))));
+      assertThat(BrowserSession.current(), is(sameInstance(session)));
+    });
+  }
+
+  @Test
+  public void sessionCanBePassedToAnotherThread() throws Exception {
+    AtomicReference<WebDriver> usedWebDriver = new AtomicReference<>();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      executor.submit(session.wrap(() -> usedWebDriver.set(WebDriverRunner.getWebDriver()))).get(1, TimeUnit.SECONDS);
+      executor.submit(() -> assertThat(BrowserSession.current(), is(nullValue()))).get(1, TimeUnit.SECONDS);
+    }
+    finally {
+      executor.shutdown();
+    }
+
+    assertThat(usedWebDriver.get(), is(sameInstance(sessionWebDriver)));
+  }
+
+  @Test
+  public void softAssertsOfSessionWorkInAnotherThread() throws Exception {
+    ErrorsCollector errorsCollector = new ErrorsCollector();
+    session.run(() -> SelenideLogger.addListener(LISTENER_SOFT_ASSERT, errorsCollector));
+    assertThat(SelenideLogger.hasListener(LISTENER_SOFT_ASSERT), is(false));
+
+    Configuration.assertionMode = SOFT;
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      executor.submit(session.wrap(() -> {
+        ErrorsCollector.validateAssertionMode();
+        SelenideLogger.commitStep(SelenideLogger.beginStep("$(\"h1\")", "should have text"), new AssertionError("h1 is empty"));
+      })).get(1, TimeUnit.SECONDS);
+    }
+    finally {
+      executor.shutdown();
+      Configuration.assertionMode = STRICT;
+    }
+
+    try {
+      errorsCollector.failIfErrors("softAssertsOfSessionWorkInAnotherThread");
+      throw new AssertionError("Expected soft assertion error");
+    }
+    catch (SoftAssertionError expected) {
+      assertThat(expected.getMessage(), is("java.lang.AssertionError: h1 is empty"));
+    }
+    ErrorsCollector removed = session.call(() -> SelenideLogger.removeListener(LISTENER_SOFT_ASSERT));
+    assertThat(removed, is(sameInstance(errorsCollector)));
+  }
+
+  @Test
+  public void sessionIsUsedByOneThreadAtATime() throws Exception {
+    CountDownLatch firstStarted = new CountDownLatch(1);
+    CountDownLatch firstCanFinish = new CountDownLatch(1);
+    CountDownLatch secondStarted = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<?> first = executor.submit(session.wrap(() -> {
+        firstStarted.countDown();
+        await(firstCanFinish);
+      }));
+      firstStarted.await(1, TimeUnit.SECONDS);
+      Future<?> second = executor.submit(session.wrap(secondStarted::countDown));
+
+      assertThat(secondStarted.await(200, TimeUnit.MILLISECONDS), is(false));
+
+      firstCanFinish.countDown();
+      first.get(1, TimeUnit.SECONDS);
+      second.get(1, TimeUnit.SECONDS);
+      assertThat(secondStarted.getCount(), is(0L));
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(1, TimeUnit.SECONDS);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  public void closeWebDriverClosesOnlySessionBrowser() {
+    session.run(WebDriverRunner::closeWebDriver);
+
+    verify(sessionWebDriver).quit();
+    verify(WebDriverRunner.webdriverContainer, never()).closeWebDriver();
+    assertThat(session.hasWebDriverStarted(), is(false));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void cannotUseClosedSession() {
+    session.closeWebDriver();
+
+    session.run(WebDriverRunner::getWebDriver);
+  }
+
+  @Test
+  public void listenerIsAddedToBrowserOfSession() {
+    WebDriverEventListener listener = mock(WebDriverEventListener.class);
+
+    session.addListener(listener);
+    session.run(() -> WebDriverRunner.getWebDriver().get("https://selenide.org"));
+
+    assertThat(session.getWebDriver(), is(instanceOf(EventFiringWebDriver.class)));
+    verify(listener).beforeNavigateTo(eq("https://selenide.org"), any(WebDriver.class));
+    verify(sessionWebDriver).get("https://selenide.org");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void cannotSetProxyForStartedBrowser() {
+    session.setProxy(new Proxy());
+  }
+
+  @Test
+  public void proxyCanBeSetBeforeBrowserIsStarted() {
+    Proxy proxy = new Proxy();
+    BrowserSession notStarted = new BrowserSession(null);
+
+    notStarted.setProxy(proxy);
+
+    assertThat(notStarted.getProxy(), is(sameInstance(proxy)));
+  }
+}
@@ -0,0 +1,156 @@
+package com.codeborne.selenide;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class BrowserTabsTest {
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final WebDriver.TargetLocator targetLocator = mock(WebDriver.TargetLocator.class);
+  private final BrowserSession browser = new BrowserSession(webDriver);
+  private final BrowserTabs tabs = new BrowserTabs(browser);
+  private BrowserSession first;
+  private BrowserSession second;
+
+  @Before
+  public void openTwoTabs() {
+    when(webDriver.switchTo()).thenReturn(targetLocator);
+    when(webDriver.getWindowHandle()).thenReturn("w1");
+    when(webDriver.getWindowHandles())
+        .thenReturn(singleton("w1"))
+        .thenReturn(new HashSet<>(asList("w1", "w2")));
+
+    first = tabs.openTab();
+    second = tabs.openTab();
+  }
+
+  @Test
+  public void opensNewWindowForEveryTabExceptTheFirstOne() {
+    verify((JavascriptExecutor) webDriver, times(1)).executeScript("window.open('about:blank', '_blank')");
+    assertThat(tabs.tabs(), is(2));
+    assertThat(first.getWebDriver(), not(sameInstance(webDriver)));
+  }
+
+  @Test
+  public void switchesToWindowOfTabOnlyIfNeeded() {
+    first.getWebDriver().getCurrentUrl();
+    first.getWebDriver().getTitle();
+    second.getWebDriver().getTitle();
+
+    verify(targetLocator, times(1)).window("w1");
+    verify(targetLocator, times(2)).window("w2");
+    verify(webDriver).getCurrentUrl();
+    verify(webDriver, times(2)).getTitle();
+  }
+
+  @Test
+  public void elementsFoundInTabAreUsedInTheSameTab() {
+    WebElement element = mock(WebElement.class);
+    when(webDriver.findElement(By.id("login"))).thenReturn(element);
+    WebElement found = first.getWebDriver().findElement(By.id("login"));
+
+    second.getWebDriver().getTitle();
+    found.click();
+
+    InOrder inOrder = inOrder(targetLocator, element);
+    inOrder.verify(targetLocator).window("w2");
+    inOrder.verify(targetLocator).window("w1");
+    inOrder.verify(element).click();
+  }
+
+  @Test
+  public void passesOriginalElementsToWebdriver() {
+    WebElement element = mock(WebElement.class);
+    when(webDriver.findElement(By.id("login"))).thenReturn(element);
+    WebElement found = first.getWebDriver().findElement(By.id("login"));
+
+    ((JavascriptExecutor) first.getWebDriver()).executeScript("arguments[0].click()", found);
+
+    verify((JavascriptExecutor) webDriver).executeScript("arguments[0].click()", element);
+  }
+
+  @Test
+  public void staticMethodsUseTab() {
+    first.run(WebDriverRunner::url);
+
+    verify(targetLocator).window("w1");
+    verify(webDriver).getCurrentUrl();
+  }
+
+  @Test
+  public void closesOnlyWindowOfTab() {
+    first.closeWebDriver();
+
+    verify(targetLocator).window("w1");
+    verify(webDriver).close();
+    verify(webDriver, never()).quit();
+    assertThat(tabs.tabs(), is(1));
+    assertThat(first.hasWebDriverStarted(), is(false));
+  }
+
+  @Test
+  public void opensNewTabAfterClosingAnotherOne() {
+    when(webDriver.getWindowHandles())
+        .thenReturn(new HashSet<>(asList("w1", "w2")))
+        .thenReturn(singleton("w2"))
+        .thenReturn(new HashSet<>(asList("w2", "w3")));
+
+    first.closeWebDriver();
+    BrowserSession third = tabs.openTab();
+    third.getWebDriver().getTitle();
+
+    InOrder inOrder = inOrder(webDriver, targetLocator);
+    inOrder.verify(webDriver).close();
+    inOrder.verify(targetLocator).window("w2");
+    inOrder.verify((JavascriptExecutor) webDriver).executeScript("window.open('about:blank', '_blank')");
+    inOrder.verify(targetLocator).window("w3");
+    inOrder.verify(webDriver).getTitle();
+    verify(targetLocator, times(1)).window("w3");
+    assertThat(tabs.tabs(), is(2));
+  }
+
+  @Test
+  public void doesNotCloseLastWindow() {
+    when(webDriver.getWindowHandles()).thenReturn(singleton("w2"));
+    WebDriver.Navigation navigation = mock(WebDriver.Navigation.class);
+    when(webDriver.navigate()).thenReturn(navigation);
+
+    second.closeWebDriver();
+
+    verify(webDriver, never()).close();
+    verify(navigation).to("about:blank");
+    assertThat(tabs.tabs(), is(1));
+  }
+
+  @Test
+  public void closeQuitsBrowser() {
+    Configuration.holdBrowserOpen = false;
+
+    tabs.close();
+
+    verify(webDriver).quit();
+    assertThat(tabs.tabs(), is(0));
+    assertThat(first.hasWebDriverStarted(), is(false));
+    assertThat(second.hasWebDriverStarted(), is(false));
+  }
+}
@@ -6,6 +6,7 @@ import org.openqa.selenium.WebElement;
 
 import static com.codeborne.selenide.Condition.be;
 import static com.codeborne.selenide.Condition.not;
+import static java.util.Arrays.asList;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -412,4 +413,30 @@ public class ConditionTest {
     when(element.getCssValue(propertyName)).thenReturn(value);
     return element;
   }
+  @Test
+  public void builtInConditionsCanBeCompiledToJavaScript() {
+    assertEquals(asList("visible"), Condition.visible.compileToJs());
+    assertEquals(asList("hidden"), Condition.disappear.compileToJs());
+    assertEquals(asList("text", "Hello"), Condition.text("Hello").compileToJs());
+    assertEquals(asList("exactText", "Hello"), Condition.exactText("Hello").compileToJs());
+    assertEquals(asList("attributeValue", "id", "main"), Condition.id("main").compileToJs());
+    assertEquals(asList("cssClass", "active"), be(Condition.cssClass("active")).compileToJs());
+    assertEquals(asList("not", asList("selected")), not(Condition.checked).compileToJs());
+    assertEquals(asList("and", asList("attributeValue", "value", ""), asList("exactText", "")),
+        Condition.empty.compileToJs());
+  }
+
+  @Test
+  public void conditionsWithCustomLogicAreNotCompiledToJavaScript() {
+    Condition custom = new Condition("custom") {
+      @Override
+      public boolean apply(WebElement element) {
+        return true;
+      }
+    };
+    assertNull(custom.compileToJs());
+    assertNull(Condition.matchText("Hello.*").compileToJs());
+    assertNull(Condition.or("visible or custom", Condition.visible, custom).compileToJs());
+    assertNull(not(custom).compileToJs());
+  }
 }
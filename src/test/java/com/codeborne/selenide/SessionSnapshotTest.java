@@ -0,0 +1,96 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.rules.MockWebdriverContainer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static com.codeborne.selenide.WebDriverRunner.webdriverContainer;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class SessionSnapshotTest {
+  @Rule
+  public MockWebdriverContainer mockWebdriverContainer = new MockWebdriverContainer();
+
+  private final WebDriver webDriver = mock(WebDriver.class,
+      withSettings().extraInterfaces(JavascriptExecutor.class).defaultAnswer(RETURNS_DEEP_STUBS));
+  private final Cookie cookie = new Cookie("session", "abc");
+  private final SessionSnapshot snapshot = new SessionSnapshot("https://example.com",
+      singletonList(cookie), singletonMap("token", "xyz"), emptyMap());
+
+  @Before
+  public void setUp() {
+    when(webdriverContainer.getWebDriver()).thenReturn(webDriver);
+  }
+
+  @Test
+  public void capturesCookiesAndStorages() {
+    Map<String, Object> localStorage = new HashMap<>();
+    localStorage.put("token", "xyz");
+    localStorage.put("count", 2L);
+    when(((JavascriptExecutor) webDriver).executeScript(anyString()))
+        .thenReturn(asList("https://example.com", localStorage, singletonMap("tab", "2")));
+    when(webDriver.manage().getCookies()).thenReturn(new HashSet<>(singletonList(cookie)));
+
+    SessionSnapshot snapshot = SessionSnapshot.capture();
+
+    assertThat(snapshot.getOrigin(), is("https://example.com"));
+    assertThat(snapshot.getCookies(), contains(cookie));
+    Map<String, String> expectedLocalStorage = new HashMap<>();
+    expectedLocalStorage.put("token", "xyz");
+    expectedLocalStorage.put("count", "2");
+    assertThat(snapshot.getLocalStorage(), equalTo(expectedLocalStorage));
+    assertThat(snapshot.getSessionStorage(), equalTo(singletonMap("tab", "2")));
+  }
+
+  @Test
+  public void restoresStoragesAndCookiesOnTheSameSite() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), eq("https://example.com"), eq(snapshot.getLocalStorage()), any()))
+        .thenReturn(true);
+
+    snapshot.restore();
+
+    verify(webDriver.navigate(), never()).to(anyString());
+    verify(webDriver.manage()).deleteAllCookies();
+    verify(webDriver.manage()).addCookie(cookie);
+  }
+
+  @Test
+  public void opensSiteBeforeRestoringSessionIfAnotherSiteIsOpened() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), eq("https://example.com"), eq(snapshot.getLocalStorage()), any()))
+        .thenReturn(false, true);
+
+    snapshot.restore();
+
+    verify(webDriver.navigate()).to("https://example.com");
+    verify(webDriver.manage()).addCookie(cookie);
+  }
+
+  @Test
+  public void restoreSessionReturnsFalseIfSessionWasNotSaved() {
+    assertThat(Selenide.restoreSession("nobody-" + System.nanoTime()), is(false));
+  }
+}
@@ -0,0 +1,70 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.impl.PollingStrategy.Polling;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+public class AdaptivePollingStrategyTest {
+  private final AdaptivePollingStrategy strategy = spy(new AdaptivePollingStrategy());
+
+  @Before
+  public void setUp() {
+    doReturn(1000L).when(strategy).currentTimeMillis();
+    doAnswer(invocation -> invocation.getArgument(0)).when(strategy).jitter(anyLong());
+  }
+
+  @Test
+  public void behavesLikeExponentialForUnknownSubject() {
+    Polling polling = strategy.start("#unknown", 4000, 100);
+
+    assertThat(polling.nextDelay(), is(10L));
+    assertThat(polling.nextDelay(), is(20L));
+  }
+
+  @Test
+  public void learnsSettleTimeOfSubject() {
+    Polling polling = strategy.start("#slow", 4000, 100);
+    doReturn(1250L).when(strategy).currentTimeMillis();
+    polling.succeeded();
+
+    assertThat(strategy.settleTime("#slow"), is(250L));
+    assertThat(strategy.settleTime("#other"), is(nullValue()));
+  }
+
+  @Test
+  public void sleepsUntilExpectedSettleTimeBeforeSecondAttempt() {
+    strategy.learn("#slow", 250);
+
+    Polling polling = strategy.start("#slow", 4000, 100);
+    doReturn(1050L).when(strategy).currentTimeMillis();
+
+    assertThat(polling.nextDelay(), is(200L));
+    assertThat(polling.nextDelay(), is(10L));
+    assertThat(polling.nextDelay(), is(20L));
+  }
+
+  @Test
+  public void expectedSettleTimeIsLimitedByMaxDelay() {
+    strategy.learn("#very-slow", 3000);
+
+    Polling polling = strategy.start("#very-slow", 4000, 100);
+
+    assertThat(polling.nextDelay(), is(400L));
+  }
+
+  @Test
+  public void settleTimeIsMovingAverage() {
+    strategy.learn("#id", 400);
+    strategy.learn("#id", 0);
+
+    assertThat(strategy.settleTime("#id"), is(300L));
+  }
+}
@@ -0,0 +1,101 @@
+package com.codeborne.selenide.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.file.Files.readAllBytes;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ContentStoreTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  ContentStore store = new ContentStore();
+
+  @Test
+  public void storesSameContentOnlyOnce() throws IOException {
+    File storeFolder = new File(folder.getRoot(), "store");
+    File first = new File(folder.getRoot(), "test1.png");
+    File second = new File(folder.getRoot(), "test2.png");
+    File other = new File(folder.getRoot(), "test3.png");
+
+    store.write(new byte[]{1, 2, 3}, storeFolder, first);
+    store.write(new byte[]{1, 2, 3}, storeFolder, second);
+    store.write(new byte[]{4, 5}, storeFolder, other);
+
+    assertArrayEquals(new byte[]{1, 2, 3}, readAllBytes(first.toPath()));
+    assertArrayEquals(new byte[]{1, 2, 3}, readAllBytes(second.toPath()));
+    assertArrayEquals(new byte[]{4, 5}, readAllBytes(other.toPath()));
+    assertEquals(2, storeFolder.list().length);
+    assertEquals(1, store.duplicates());
+  }
+
+  @Test
+  public void namesStoredFileByContentHashAndExtension() throws IOException {
+    File storeFolder = new File(folder.getRoot(), "store");
+
+    store.write("hello".getBytes("UTF-8"), storeFolder, new File(folder.getRoot(), "page.html"));
+
+    assertEquals("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824.html", storeFolder.list()[0]);
+  }
+
+  @Test
+  public void overwritesExistingTargetFile() throws IOException {
+    File storeFolder = new File(folder.getRoot(), "store");
+    File target = new File(folder.getRoot(), "test.png");
+
+    store.write(new byte[]{1}, storeFolder, target);
+    store.write(new byte[]{2}, storeFolder, target);
+
+    assertArrayEquals(new byte[]{2}, readAllBytes(target.toPath()));
+    assertEquals(0, store.duplicates());
+  }
+
+  @Test
+  public void copiesFilesIfFileSystemDoesNotSupportLinks() throws IOException {
+    AtomicInteger links = new AtomicInteger();
+    store = new ContentStore() {
+      @Override
+      void createLink(Path link, Path existing) throws IOException {
+        links.incrementAndGet();
+        throw new FileSystemException(link.toString(), existing.toString(), "Operation not permitted");
+      }
+    };
+    File storeFolder = new File(folder.getRoot(), "store");
+
+    store.write(new byte[]{1}, storeFolder, new File(folder.getRoot(), "test1.png"));
+    store.write(new byte[]{1}, storeFolder, new File(folder.getRoot(), "test2.png"));
+
+    assertArrayEquals(new byte[]{1}, readAllBytes(new File(folder.getRoot(), "test2.png").toPath()));
+    assertEquals(1, links.get());
+  }
+
+  @Test
+  public void keepsCreatingLinksAfterOtherErrors() throws IOException {
+    AtomicInteger links = new AtomicInteger();
+    store = new ContentStore() {
+      @Override
+      void createLink(Path link, Path existing) throws IOException {
+        if (links.incrementAndGet() == 1) {
+          throw new IOException("Disk is busy");
+        }
+        super.createLink(link, existing);
+      }
+    };
+    File storeFolder = new File(folder.getRoot(), "store");
+
+    store.write(new byte[]{1}, storeFolder, new File(folder.getRoot(), "test1.png"));
+    store.write(new byte[]{1}, storeFolder, new File(folder.getRoot(), "test2.png"));
+
+    assertArrayEquals(new byte[]{1}, readAllBytes(new File(folder.getRoot(), "test1.png").toPath()));
+    assertEquals(2, links.get());
+  }
+}
@@ -1,19 +1,38 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
 import com.codeborne.selenide.ex.ElementShould;
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
 import org.junit.Test;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
 import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class DescribeTest {
+  private final RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+
+  @After
+  public void tearDown() {
+    Configuration.checkConditionsInBrowser = false;
+    WebDriverRunner.closeWebDriver();
+  }
 
   @Test
   public void selectorIsReportedAsIs() {
@@ -34,4 +53,45 @@ public class DescribeTest {
     
     assertEquals("StaleElementReferenceException: disappeared", Describe.shortly(selenideElement));
   }
+
+  @Test
+  public void describesElementBySingleScript() {
+    Configuration.checkConditionsInBrowser = true;
+    WebDriverRunner.setWebDriver(webdriver);
+    WebElement element = mock(WebElement.class);
+    when(webdriver.executeScript(anyString(), any())).thenReturn(singletonList(
+        asList("input", ImmutableMap.of("id", "login", "value", "bob", "type", "text", "class", ""), "", true, false)));
+
+    assertEquals("<input id=\"login\" type=\"text\" value=\"bob\" selected:true displayed:false></input>",
+        Describe.describe(element));
+    verifyZeroInteractions(element);
+  }
+
+  @Test
+  public void describesAllElementsBySingleScript() {
+    Configuration.checkConditionsInBrowser = true;
+    WebDriverRunner.setWebDriver(webdriver);
+    when(webdriver.executeScript(anyString(), any())).thenReturn(asList(
+        asList("li", ImmutableMap.of("class", "item"), "Hello", false, true),
+        asList("li", ImmutableMap.of(), "", false, false)));
+
+    assertEquals(asList("<li class=\"item\">Hello</li>", "<li displayed:false></li>"),
+        Describe.describeInBrowser(asList(mock(WebElement.class), mock(WebElement.class))));
+  }
+
+  @Test
+  public void cannotDescribeElementsInBrowser_ifDisabled() {
+    WebDriverRunner.setWebDriver(webdriver);
+    assertNull(Describe.describeInBrowser(singletonList(mock(WebElement.class))));
+    verifyZeroInteractions(webdriver);
+  }
+
+  @Test
+  public void cannotDescribeElementsInBrowser_ifScriptFails() {
+    Configuration.checkConditionsInBrowser = true;
+    WebDriverRunner.setWebDriver(webdriver);
+    when(webdriver.executeScript(anyString(), any())).thenThrow(new WebDriverException("stale element"));
+
+    assertNull(Describe.describeInBrowser(singletonList(mock(WebElement.class))));
+  }
 }
@@ -0,0 +1,110 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.impl.PollingStrategy.Polling;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriverException;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class DomMutationPollingStrategyTest {
+  private final DomMutationPollingStrategy strategy = spy(new DomMutationPollingStrategy());
+
+  @Before
+  public void setUp() {
+    doReturn(1000L).when(strategy).currentTimeMillis();
+    doAnswer(invocation -> invocation.getArgument(0)).when(strategy).jitter(anyLong());
+    doReturn(true).when(strategy).canWaitForMutations();
+    doReturn(2L).when(strategy).countMutations();
+  }
+
+  @Test
+  public void waitsForMutationsInBrowserInsteadOfSleeping() {
+    doReturn(3L).when(strategy).waitForMutations(1000, 2);
+    doReturn(5L).when(strategy).waitForMutations(1000, 3);
+    Polling polling = strategy.start("#id", 4000, 100);
+
+    assertThat(polling.nextDelay(), is(100L));
+    assertThat(polling.nextDelay(), is(100L));
+    verify(strategy).waitForMutations(1000, 2);
+    verify(strategy).waitForMutations(1000, 3);
+  }
+
+  @Test
+  public void startsObservingMutationsBeforeFirstCheckOfCondition() {
+    strategy.start("#id", 4000, 100);
+
+    verify(strategy).countMutations();
+    verify(strategy, never()).waitForMutations(anyLong(), anyLong());
+  }
+
+  @Test
+  public void fallsBackToExponentialDelays_ifBrowserCannotObserveMutations() {
+    doThrow(new WebDriverException("javascript is disabled")).when(strategy).countMutations();
+    Polling polling = strategy.start("#id", 4000, 100);
+
+    assertThat(polling.nextDelay(), is(10L));
+    verify(strategy, never()).waitForMutations(anyLong(), anyLong());
+  }
+
+  @Test
+  public void checksConditionImmediately_ifBrowserHasWaitedForMutationsLongerThanPollingInterval() {
+    doAnswer(invocation -> {
+      doReturn(1250L).when(strategy).currentTimeMillis();
+      return 3L;
+    }).when(strategy).waitForMutations(1000, 2);
+    Polling polling = strategy.start("#id", 4000, 100);
+
+    assertThat(polling.nextDelay(), is(0L));
+  }
+
+  @Test
+  public void sleepsRestOfPollingInterval_ifPageChangesAllTheTime() {
+    doAnswer(invocation -> {
+      doReturn(1030L).when(strategy).currentTimeMillis();
+      return 3L;
+    }).when(strategy).waitForMutations(1000, 2);
+    Polling polling = strategy.start("#id", 4000, 100);
+
+    assertThat(polling.nextDelay(), is(70L));
+  }
+
+  @Test
+  public void waitsForMutationsNotLongerThanRemainingTimeout() {
+    doReturn(0L).when(strategy).waitForMutations(anyLong(), anyLong());
+    Polling polling = strategy.start("#id", 4000, 100);
+    doReturn(4700L).when(strategy).currentTimeMillis();
+
+    assertThat(polling.nextDelay(), is(100L));
+    verify(strategy).waitForMutations(300, 2);
+  }
+
+  @Test
+  public void fallsBackToExponentialDelays_ifBrowserCannotExecuteJavascript() {
+    doReturn(false).when(strategy).canWaitForMutations();
+    Polling polling = strategy.start("#id", 4000, 100);
+
+    assertThat(polling.nextDelay(), is(10L));
+    assertThat(polling.nextDelay(), is(20L));
+    verify(strategy, never()).countMutations();
+    verify(strategy, never()).waitForMutations(anyLong(), anyLong());
+  }
+
+  @Test
+  public void fallsBackToExponentialDelays_ifAsyncScriptFailed() {
+    doThrow(new WebDriverException("async scripts are not supported")).when(strategy).waitForMutations(anyLong(), anyLong());
+    Polling polling = strategy.start("#id", 4000, 100);
+
+    assertThat(polling.nextDelay(), is(10L));
+    assertThat(polling.nextDelay(), is(20L));
+    verify(strategy).waitForMutations(anyLong(), anyLong());
+  }
+}
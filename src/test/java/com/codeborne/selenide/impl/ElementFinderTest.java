@@ -1,10 +1,26 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.ex.ElementNotFound;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
+import static com.codeborne.selenide.Condition.exist;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -32,4 +48,95 @@ public class ElementFinderTest {
     assertEquals("{By.xpath: //*[@id='app']}", new ElementFinder(parent, By.xpath("//*[@id='app']"), 0).toString());
     assertEquals("{By.xpath: //*[@id='app'][3]}", new ElementFinder(parent, By.xpath("//*[@id='app']"), 3).toString());
   }
+
+  @Before
+  public void setUp() {
+    Configuration.flattenSelectors = true;
+  }
+
+  @After
+  public void resetSettings() {
+    Configuration.flattenSelectors = false;
+    Configuration.fastFailureDiagnostics = false;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void findsNestedElementsBySingleCombinedSelector() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement input = mock(WebElement.class);
+    when(webDriver.findElement(By.xpath("((//form)[1]//fieldset)[1]//input"))).thenReturn(input);
+    WebDriverRunner.setWebDriver(webDriver);
+
+    SelenideElement form = ElementFinder.wrap(By.xpath("//form"));
+    SelenideElement fieldset = ElementFinder.wrap(form, By.xpath(".//fieldset"), 0);
+
+    assertSame(input, new ElementFinder(fieldset, By.xpath(".//input"), 0).getWebElement());
+    verify(webDriver).findElement(By.xpath("((//form)[1]//fieldset)[1]//input"));
+    verifyNoMoreInteractions(webDriver);
+  }
+
+  @Test
+  public void searchesParentSeparatelyIfSelectorsCannotBeCombined() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement form = mock(WebElement.class);
+    WebElement input = mock(WebElement.class);
+    when(webDriver.findElement(By.cssSelector(".form"))).thenReturn(form);
+    when(form.findElement(By.cssSelector("input"))).thenReturn(input);
+    WebDriverRunner.setWebDriver(webDriver);
+
+    SelenideElement parent = ElementFinder.wrap(By.cssSelector(".form"));
+
+    assertSame(input, new ElementFinder(parent, By.cssSelector("input"), 0).getWebElement());
+  }
+
+  @Test
+  public void flatteningCanBeDisabled() {
+    Configuration.flattenSelectors = false;
+    SelenideElement parent = ElementFinder.wrap(By.id("form"));
+
+    ElementFinder.Chain chain = new ElementFinder(parent, By.cssSelector("input"), 0).flatten();
+    assertSame(parent, chain.parent);
+    assertEquals(By.cssSelector("input"), chain.criteria);
+  }
+
+  @Test
+  public void doesNotFlattenParentWithIndex() {
+    SelenideElement parent = ElementFinder.wrap(null, By.id("form"), 1);
+
+    ElementFinder.Chain chain = new ElementFinder(parent, By.cssSelector("input"), 0).flatten();
+    assertSame(parent, chain.parent);
+  }
+
+  @Test
+  public void fastFailureDiagnostics_reportsMissingParentWithoutWaitingForIt() {
+    Configuration.fastFailureDiagnostics = true;
+    WebDriver webDriver = mock(WebDriver.class);
+    when(webDriver.findElement(By.id("form"))).thenThrow(new NoSuchElementException("no form"));
+    WebDriverRunner.setWebDriver(webDriver);
+    SelenideElement parent = ElementFinder.wrap(By.id("form"));
+    ElementFinder child = new ElementFinder(parent, By.cssSelector("input"), 0);
+
+    try {
+      child.createElementNotFoundError(exist, new NoSuchElementException("no input"));
+      fail("expected ElementNotFound");
+    }
+    catch (ElementNotFound expected) {
+      assertThat(expected.getMessage(), startsWith("Element not found {By.id: form}"));
+    }
+    verify(webDriver, times(1)).findElement(By.id("form"));
+  }
+
+  @Test
+  public void fastFailureDiagnostics_reportsMissingElementIfParentExists() {
+    Configuration.fastFailureDiagnostics = true;
+    WebDriver webDriver = mock(WebDriver.class);
+    when(webDriver.findElement(By.id("form"))).thenReturn(mock(WebElement.class));
+    WebDriverRunner.setWebDriver(webDriver);
+    ElementFinder child = new ElementFinder(ElementFinder.wrap(By.id("form")), By.cssSelector("input"), 0);
+
+    ElementNotFound error = child.createElementNotFoundError(exist, new NoSuchElementException("no input"));
+
+    assertThat(error.getMessage(), startsWith("Element not found {input}"));
+  }
 }
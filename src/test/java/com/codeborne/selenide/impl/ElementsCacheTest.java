@@ -0,0 +1,92 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ElementsCacheTest {
+  private final RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+  private final WebElement element = mock(WebElement.class);
+  private final ElementFinder finder = new ElementFinder(null, By.id("app"), 0);
+
+  @Before
+  public void setUp() {
+    Configuration.cacheElements = true;
+    ElementsCache.instance.resetCounters();
+    WebDriverRunner.setWebDriver(webdriver);
+    when(webdriver.findElement(By.id("app"))).thenReturn(element);
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.cacheElements = false;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void reusesFoundElement() {
+    assertThat(finder.getWebElement(), sameInstance(element));
+    assertThat(finder.getWebElement(), sameInstance(element));
+    assertThat(finder.getWebElement(), sameInstance(element));
+
+    verify(webdriver, times(1)).findElement(By.id("app"));
+    assertThat(ElementsCache.instance.hits(), is(2L));
+    assertThat(ElementsCache.instance.misses(), is(1L));
+  }
+
+  @Test
+  public void searchesElementAgain_ifItGotStale() {
+    finder.getWebElement();
+    when(element.isEnabled()).thenThrow(new StaleElementReferenceException("gone"));
+    WebElement newElement = mock(WebElement.class);
+    when(webdriver.findElement(By.id("app"))).thenReturn(newElement);
+
+    assertThat(finder.getWebElement(), sameInstance(newElement));
+    assertThat(ElementsCache.instance.misses(), is(2L));
+  }
+
+  @Test
+  public void searchesElementAgain_afterNavigation() {
+    finder.getWebElement();
+    ElementsCache.instance.invalidate(webdriver);
+    finder.getWebElement();
+
+    verify(webdriver, times(2)).findElement(By.id("app"));
+    verify(element, times(0)).isEnabled();
+  }
+
+  @Test
+  public void doesNotReuseElementOfAnotherWebdriver() {
+    finder.getWebElement();
+    RemoteWebDriver anotherWebdriver = mock(RemoteWebDriver.class);
+    WebDriverRunner.setWebDriver(anotherWebdriver);
+    WebElement anotherElement = mock(WebElement.class);
+    when(anotherWebdriver.findElement(By.id("app"))).thenReturn(anotherElement);
+
+    assertThat(finder.getWebElement(), sameInstance(anotherElement));
+  }
+
+  @Test
+  public void cacheIsDisabledByDefault() {
+    Configuration.cacheElements = false;
+    finder.getWebElement();
+    finder.getWebElement();
+
+    verify(webdriver, times(2)).findElement(By.id("app"));
+    assertThat(ElementsCache.instance.hits(), is(0L));
+  }
+}
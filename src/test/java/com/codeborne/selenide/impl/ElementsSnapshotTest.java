@@ -0,0 +1,101 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class ElementsSnapshotTest {
+  private final RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+  private final WebElement element1 = mock(WebElement.class);
+  private final WebElement element2 = mock(WebElement.class);
+
+  @Before
+  public void setUp() {
+    WebDriverRunner.setWebDriver(webdriver);
+    when(element1.getText()).thenReturn("Hello");
+    when(element2.getText()).thenReturn("World");
+    when(element1.isDisplayed()).thenReturn(true);
+    when(element1.getAttribute("id")).thenReturn("first");
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.checkConditionsInBrowser = false;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void fetchesTextsLazilyOneByOne_byDefault() {
+    List<String> texts = ElementsSnapshot.texts(asList(element1, element2));
+
+    assertThat(texts.get(0), is("Hello"));
+    assertThat(texts.get(0), is("Hello"));
+    verify(element1, times(1)).getText();
+    verify(element2, never()).getText();
+    assertThat(texts.get(1), is("World"));
+    verify(webdriver, never()).executeScript(anyString(), any(), any());
+  }
+
+  @Test
+  public void fetchesAllTextsBySingleJavaScriptCall() {
+    Configuration.checkConditionsInBrowser = true;
+    when(webdriver.executeScript(anyString(), any(), any())).thenReturn(asList(
+        asList("Hello", true, ImmutableMap.of()),
+        asList("", false, ImmutableMap.of())
+    ));
+
+    List<String> texts = ElementsSnapshot.texts(asList(element1, element2));
+
+    assertThat(texts, is(asList("Hello", "")));
+    verify(webdriver).executeScript(anyString(), eq(asList(element1, element2)), eq(asList()));
+    verifyZeroInteractions(element1, element2);
+  }
+
+  @Test
+  public void fetchesTextsVisibilityAndAttributesBySingleJavaScriptCall() {
+    Configuration.checkConditionsInBrowser = true;
+    when(webdriver.executeScript(anyString(), any(), any())).thenReturn(asList(
+        asList("Hello", true, ImmutableMap.of("id", "first")),
+        asList("", false, ImmutableMap.of("id", "second"))
+    ));
+
+    ElementsSnapshot snapshot = ElementsSnapshot.of(asList(element1, element2), "id");
+
+    assertThat(snapshot.size(), is(2));
+    assertThat(snapshot.texts(), is(asList("Hello", "")));
+    assertThat(snapshot.visibility(), is(asList(true, false)));
+    assertThat(snapshot.attribute(1, "id"), is("second"));
+    verify(webdriver).executeScript(anyString(), eq(asList(element1, element2)), eq(asList("id")));
+  }
+
+  @Test
+  public void fetchesSnapshotElementByElement_ifJavaScriptIsNotEnabled() {
+    ElementsSnapshot snapshot = ElementsSnapshot.of(asList(element1, element2), "id");
+
+    assertThat(snapshot.texts(), is(asList("Hello", "World")));
+    assertThat(snapshot.visibility(), is(asList(true, false)));
+    assertThat(snapshot.attribute(0, "id"), is("first"));
+    assertThat(snapshot.attribute(1, "id"), is(nullValue()));
+  }
+}
@@ -0,0 +1,64 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.impl.PollingStrategy.Polling;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+public class ExponentialPollingStrategyTest {
+  private final ExponentialPollingStrategy strategy = spy(new ExponentialPollingStrategy());
+
+  @Before
+  public void setUp() {
+    doReturn(1000L).when(strategy).currentTimeMillis();
+    doAnswer(invocation -> invocation.getArgument(0)).when(strategy).jitter(anyLong());
+  }
+
+  @Test
+  public void startsWithShortDelayAndDoublesItAfterEveryAttempt() {
+    Polling polling = strategy.start("#id", 10000, 100);
+
+    assertThat(polling.nextDelay(), is(10L));
+    assertThat(polling.nextDelay(), is(20L));
+    assertThat(polling.nextDelay(), is(40L));
+    assertThat(polling.nextDelay(), is(80L));
+    assertThat(polling.nextDelay(), is(160L));
+    assertThat(polling.nextDelay(), is(320L));
+    assertThat(polling.nextDelay(), is(400L));
+    assertThat(polling.nextDelay(), is(400L));
+  }
+
+  @Test
+  public void neverSleepsLongerThanRemainingTimeout() {
+    Polling polling = strategy.start("#id", 4000, 100);
+    doReturn(4995L).when(strategy).currentTimeMillis();
+    assertThat(polling.nextDelay(), is(5L));
+
+    doReturn(5000L).when(strategy).currentTimeMillis();
+    assertThat(polling.nextDelay(), is(0L));
+  }
+
+  @Test
+  public void usesAtLeastOneMillisecond() {
+    Polling polling = strategy.start("#id", 4000, 1);
+
+    assertThat(polling.nextDelay(), is(1L));
+  }
+
+  @Test
+  public void jitterKeepsDelayBetweenHalfAndFull() {
+    ExponentialPollingStrategy strategy = new ExponentialPollingStrategy();
+    for (int i = 0; i < 100; i++) {
+      assertThat(strategy.jitter(100), is(allOf(greaterThanOrEqualTo(50L), lessThanOrEqualTo(100L))));
+    }
+  }
+}
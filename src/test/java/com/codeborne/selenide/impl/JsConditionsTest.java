@@ -0,0 +1,138 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+import java.util.List;
+
+import static com.codeborne.selenide.Configuration.SelectorMode.CSS;
+import static com.codeborne.selenide.Configuration.SelectorMode.Sizzle;
+import static com.codeborne.selenide.Selectors.byText;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JsConditionsTest {
+  private final JsConditions jsConditions = new JsConditions();
+  private final RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+
+  @Before
+  public void setUp() {
+    WebDriverRunner.setWebDriver(webdriver);
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.selectorMode = CSS;
+    Configuration.checkConditionsInBrowser = false;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void convertsBasicSelectorsToJavaScriptLocator() {
+    assertThat(jsConditions.locator(webdriver, By.cssSelector("#main .item"), 0), is(asList("css", "#main .item", 0, null)));
+    assertThat(jsConditions.locator(webdriver, By.xpath("//div[@a='b:c']"), 2), is(asList("xpath", "//div[@a='b:c']", 2, null)));
+    assertThat(jsConditions.locator(webdriver, By.id("login"), 0), is(asList("id", "login", 0, null)));
+    assertThat(jsConditions.locator(webdriver, By.name("q"), 0), is(asList("name", "q", 0, null)));
+    assertThat(jsConditions.locator(webdriver, By.className("btn"), 0), is(asList("className", "btn", 0, null)));
+    assertThat(jsConditions.locator(webdriver, By.tagName("h1"), 1), is(asList("tagName", "h1", 1, null)));
+  }
+
+  @Test
+  public void passesParentElementToJavaScriptLocator() {
+    WebElement parent = mock(WebElement.class);
+    assertThat(jsConditions.locator(parent, By.cssSelector(".item"), 0), is(asList("css", ".item", 0, parent)));
+  }
+
+  @Test
+  public void doesNotSupportCustomSelectors() {
+    assertThat(jsConditions.locator(webdriver, byText("Hello"), 0), is(nullValue()));
+    assertThat(jsConditions.locator(webdriver, By.linkText("Hello"), 0), is(nullValue()));
+  }
+
+  @Test
+  public void doesNotSupportCssSelectorsInSizzleMode() {
+    Configuration.selectorMode = Sizzle;
+    assertThat(jsConditions.locator(webdriver, By.cssSelector(".item"), 0), is(nullValue()));
+  }
+
+  @Test
+  public void findsElementAndChecksConditionInSingleCall() {
+    WebElement element = mock(WebElement.class);
+    List<Object> locator = asList("css", "h1", 0, null);
+    when(webdriver.executeScript(anyString(), any(), any())).thenReturn(asList(element, true));
+
+    JsConditions.Result result = jsConditions.check(locator, Condition.exactText("Hello"));
+
+    assertThat(result.element, sameInstance(element));
+    assertThat(result.matches, is(true));
+    verify(webdriver).executeScript(anyString(), eq(locator), eq(asList("exactText", "Hello")));
+  }
+
+  @Test
+  public void returnsNoElement_ifElementIsNotFound() {
+    when(webdriver.executeScript(anyString(), any(), any())).thenReturn(null);
+
+    JsConditions.Result result = jsConditions.check(asList("css", "h1", 0, null), Condition.visible);
+
+    assertThat(result.element, is(nullValue()));
+    assertThat(result.matches, is(false));
+  }
+
+  @Test
+  public void returnsNull_ifConditionCannotBeCompiled() {
+    assertThat(jsConditions.check(asList("css", "h1", 0, null), Condition.matchText("H.*")), is(nullValue()));
+  }
+
+  @Test
+  public void isDisabledByDefault() {
+    assertThat(jsConditions.isEnabled(), is(false));
+
+    Configuration.checkConditionsInBrowser = true;
+    assertThat(jsConditions.isEnabled(), is(true));
+  }
+
+  @Test
+  public void textOfHiddenElementIsEmpty_likeInWebDriver() throws Exception {
+    ScriptEngine js = new ScriptEngineManager().getEngineByName("javascript");
+    assumeNotNull(js);
+    js.eval("var window = {getComputedStyle: function(e) {return e.style;}};" +
+        "var document = {querySelectorAll: function() {return [element];}};" +
+        "var element = {tagName: 'DIV', nodeType: 1, innerText: 'Hello', offsetWidth: 0, offsetHeight: 0, " +
+        "  style: {display: 'none', opacity: '1', visibility: 'visible'}, getClientRects: function() {return [];}};" +
+        "function checkConditions() {" + Scripts.withHelpers("conditions.js") + "}");
+
+    assertThat(checkHelloDiv(js, "text", "Hello"), is(false));
+    assertThat(checkHelloDiv(js, "textCaseSensitive", "Hello"), is(false));
+    assertThat(checkHelloDiv(js, "exactText", "Hello"), is(false));
+    assertThat(checkHelloDiv(js, "exactTextCaseSensitive", "Hello"), is(false));
+    assertThat(checkHelloDiv(js, "exactText", ""), is(true));
+
+    js.eval("element.style.display = 'block'; element.offsetWidth = 100;");
+    assertThat(checkHelloDiv(js, "exactText", "Hello"), is(true));
+  }
+
+  private Object checkHelloDiv(ScriptEngine js, String condition, String text) throws ScriptException {
+    js.put("condition", js.eval("['" + condition + "', '" + text + "']"));
+    return js.eval("checkConditions(['css', 'div', 0, null], condition)[1]");
+  }
+}
@@ -1,15 +1,55 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.BrowserSession;
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static java.io.File.separatorChar;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.readAllBytes;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public class ScreenShotLaboratoryTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final String originalReportsFolder = Configuration.reportsFolder;
+  private final WebDriverContainer originalContainer = WebDriverRunner.webdriverContainer;
+
   ScreenShotLaboratory screenshots = new ScreenShotLaboratory() {
     @Override protected long timestamp() {
       return 12356789L;
@@ -22,6 +62,22 @@ public class ScreenShotLaboratoryTest {
     }
   };
 
+  @Before
+  public void setUp() {
+    Configuration.reportsFolder = folder.getRoot().getAbsolutePath();
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.reportsFolder = originalReportsFolder;
+    WebDriverRunner.webdriverContainer = originalContainer;
+    Configuration.screenshotsHistorySize = -1;
+    Configuration.asyncScreenshots = false;
+    Configuration.deduplicateScreenshots = false;
+    Configuration.screenshotMaxWidth = 0;
+    Configuration.nativeElementScreenshots = false;
+  }
+
   @Test
   public void composesScreenshotNameFromTestClassAndMethod() {
     String expected = "MyTest/helloWorldTest.12356789".replace('/', separatorChar);
@@ -55,6 +111,26 @@ public class ScreenShotLaboratoryTest {
     assertEquals(new File("ui/MyTest/test_some_method/12356789.2"), contextScreenshots.get(2));
   }
 
+  @Test
+  public void screenshotContextFollowsBrowserSessionToAnotherThread() throws Exception {
+    BrowserSession session = new BrowserSession(mock(WebDriver.class));
+    session.run(() -> screenshots.startContext("ui/MyTest/test_in_session/"));
+    assertEquals("12356789.0", screenshots.takeScreenShot());
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      executor.submit(session.wrap(() -> screenshots.takeScreenShot())).get(1, TimeUnit.SECONDS);
+    }
+    finally {
+      executor.shutdown();
+    }
+
+    List<File> contextScreenshots = session.call(screenshots::finishContext);
+    assertEquals(1, contextScreenshots.size());
+    assertEquals(new File("ui/MyTest/test_in_session/12356789.1"), contextScreenshots.get(0));
+    assertNull(session.call(screenshots::finishContext));
+  }
+
   @Test
   public void collectsAllScreenshots() {
     screenshots.startContext("ui/MyTest/test_some_method/");
@@ -89,4 +165,154 @@ public class ScreenShotLaboratoryTest {
     screenshots.takeScreenShot();
     assertEquals("12356789.2", screenshots.getLastScreenshot().toString());
   }
+
+  @Test
+  public void keepsOnlyLastScreenshotsInMemoryIfHistorySizeIsLimited() {
+    Configuration.screenshotsHistorySize = 1;
+
+    screenshots.takeScreenShot();
+    screenshots.takeScreenShot();
+    screenshots.takeScreenShot();
+
+    assertEquals("12356789.2", screenshots.getLastScreenshot().toString());
+    assertEquals(3, screenshots.getScreenshots().size());
+    try (Stream<File> history = screenshots.screenshotsHistory()) {
+      assertEquals("12356789.0", history.findFirst().get().toString());
+    }
+  }
+
+  @Test
+  public void writesScreenshotAndPageSourceInBackground() throws IOException {
+    Configuration.asyncScreenshots = true;
+    WebDriver webDriver = mockWebDriver(new byte[]{1, 2, 3});
+    when(webDriver.getPageSource()).thenReturn("<html>page</html>");
+    ScreenShotLaboratory laboratory = new ScreenShotLaboratory();
+
+    String screenshot = laboratory.takeScreenShot("async/screenshot");
+    laboratory.waitForPendingWrites(5000);
+
+    assertEquals(new File(folder.getRoot(), "async/screenshot.png").getAbsolutePath(), screenshot);
+    assertEquals(0, laboratory.pendingWrites());
+    assertArrayEquals(new byte[]{1, 2, 3}, readAllBytes(new File(screenshot).toPath()));
+    assertEquals("<html>page</html>",
+        new String(readAllBytes(new File(folder.getRoot(), "async/screenshot.html").toPath()), UTF_8));
+  }
+
+  @Test
+  public void storesIdenticalScreenshotsAndPageSourcesOnlyOnce() throws IOException {
+    Configuration.deduplicateScreenshots = true;
+    WebDriver webDriver = mockWebDriver(new byte[]{1, 2, 3});
+    when(webDriver.getPageSource()).thenReturn("<html>page</html>");
+    ScreenShotLaboratory laboratory = new ScreenShotLaboratory();
+
+    String screenshot1 = laboratory.takeScreenShot("test1/screenshot");
+    String screenshot2 = laboratory.takeScreenShot("test2/screenshot");
+
+    assertArrayEquals(new byte[]{1, 2, 3}, readAllBytes(new File(screenshot1).toPath()));
+    assertArrayEquals(new byte[]{1, 2, 3}, readAllBytes(new File(screenshot2).toPath()));
+    assertEquals("<html>page</html>",
+        new String(readAllBytes(new File(folder.getRoot(), "test2/screenshot.html").toPath()), UTF_8));
+    assertEquals(2, new File(folder.getRoot(), "content-store").list().length);
+    assertEquals(2, laboratory.duplicateScreenshots());
+  }
+
+  @Test
+  public void downscalesScreenshotsWiderThanMaxWidth() throws IOException {
+    Configuration.screenshotMaxWidth = 50;
+    WebDriver webDriver = mockWebDriver(png(200, 100));
+    when(webDriver.getPageSource()).thenReturn("<html/>");
+    ScreenShotLaboratory laboratory = new ScreenShotLaboratory();
+
+    String screenshot = laboratory.takeScreenShot("encoded/screenshot");
+
+    BufferedImage image = ImageIO.read(new File(screenshot));
+    assertEquals(50, image.getWidth());
+    assertEquals(25, image.getHeight());
+    assertTrue(laboratory.screenshotBytesSaved() > 0);
+  }
+
+  @Test
+  public void writesNativeScreenshotOfElementAsIs() throws IOException {
+    Configuration.nativeElementScreenshots = true;
+    WebDriver webDriver = mockWebDriver(png(100, 100));
+    WebElement element = mockElement(10, 10, 20, 20);
+    when(element.getScreenshotAs(OutputType.BYTES)).thenReturn(new byte[]{4, 5, 6});
+
+    File screenshot = new ScreenShotLaboratory().takeScreenshot(element);
+
+    assertArrayEquals(new byte[]{4, 5, 6}, readAllBytes(screenshot.toPath()));
+    verify((TakesScreenshot) webDriver, never()).getScreenshotAs(any());
+  }
+
+  @Test
+  public void fallsBackToPageScreenshotIfBrowserCannotTakeScreenshotOfElement() {
+    Configuration.nativeElementScreenshots = true;
+    WebDriver webDriver = mockWebDriver(png(100, 100));
+    WebElement element = mockElement(10, 10, 20, 30);
+    when(element.getScreenshotAs(OutputType.BYTES)).thenThrow(new UnsupportedCommandException("element screenshot"));
+    ScreenShotLaboratory laboratory = new ScreenShotLaboratory();
+
+    BufferedImage image = laboratory.takeScreenshotAsImage(element);
+    laboratory.takeScreenshotAsImage(element);
+
+    assertEquals(20, image.getWidth());
+    assertEquals(30, image.getHeight());
+    verify(element, times(1)).getScreenshotAs(OutputType.BYTES);
+    verify((TakesScreenshot) webDriver, times(2)).getScreenshotAs(OutputType.BYTES);
+  }
+
+  @Test
+  public void takesScreenshotOfPageOnlyOnceForElementsOfTheSamePage() {
+    WebDriver webDriver = mockWebDriver(png(100, 100));
+    WebElement element1 = mockElement(0, 0, 10, 10);
+    WebElement element2 = mockElement(50, 50, 20, 20);
+    ScreenShotLaboratory laboratory = new ScreenShotLaboratory();
+    List<BufferedImage> images = new ArrayList<>();
+
+    laboratory.samePage(() -> {
+      images.add(laboratory.takeScreenshotAsImage(element1));
+      images.add(laboratory.takeScreenshotAsImage(element2));
+    });
+    verify((TakesScreenshot) webDriver, times(1)).getScreenshotAs(OutputType.BYTES);
+    assertEquals(10, images.get(0).getWidth());
+    assertEquals(20, images.get(1).getWidth());
+
+    laboratory.samePage(() -> {
+      images.add(laboratory.takeScreenshotAsImage(element1));
+      ElementsCache.instance.invalidate(webDriver);
+      images.add(laboratory.takeScreenshotAsImage(element2));
+    });
+    verify((TakesScreenshot) webDriver, times(3)).getScreenshotAs(OutputType.BYTES);
+
+    laboratory.takeScreenshotAsImage(element1);
+    laboratory.takeScreenshotAsImage(element2);
+    verify((TakesScreenshot) webDriver, times(5)).getScreenshotAs(OutputType.BYTES);
+  }
+
+  private WebDriver mockWebDriver(byte[] screenshot) {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(TakesScreenshot.class));
+    when(((TakesScreenshot) webDriver).getScreenshotAs(OutputType.BYTES)).thenReturn(screenshot);
+    WebDriverRunner.webdriverContainer = mock(WebDriverContainer.class);
+    when(WebDriverRunner.webdriverContainer.hasWebDriverStarted()).thenReturn(true);
+    when(WebDriverRunner.webdriverContainer.getWebDriver()).thenReturn(webDriver);
+    return webDriver;
+  }
+
+  private WebElement mockElement(int x, int y, int width, int height) {
+    WebElement element = mock(WebElement.class);
+    when(element.getLocation()).thenReturn(new Point(x, y));
+    when(element.getSize()).thenReturn(new Dimension(width, height));
+    return element;
+  }
+
+  private byte[] png(int width, int height) {
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    try {
+      ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", png);
+    }
+    catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return png.toByteArray();
+  }
 }
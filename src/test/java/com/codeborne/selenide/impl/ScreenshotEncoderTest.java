@@ -0,0 +1,122 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ScreenshotEncoderTest {
+  ScreenshotEncoder encoder = new ScreenshotEncoder();
+
+  @After
+  public void resetOptions() {
+    Configuration.screenshotMaxWidth = 0;
+    Configuration.screenshotCompressionLevel = -1;
+    Configuration.screenshotColors = "rgb";
+  }
+
+  @Test
+  public void doesNotTouchScreenshotByDefault() throws IOException {
+    byte[] png = png(gradient(200, 100));
+
+    assertFalse(encoder.isEnabled());
+    assertSame(png, encoder.encode(png));
+    assertEquals(0, encoder.savedBytes());
+  }
+
+  @Test
+  public void compressionLevelAloneDoesNotEnableEncodingIfItCannotBeApplied() {
+    Configuration.screenshotCompressionLevel = 9;
+
+    assertFalse(encoder(false).isEnabled());
+    assertTrue(encoder(true).isEnabled());
+  }
+
+  @Test
+  public void downscalesWideScreenshotsProportionally() throws IOException {
+    Configuration.screenshotMaxWidth = 100;
+    byte[] png = png(gradient(400, 300));
+
+    BufferedImage result = read(encoder.encode(png));
+
+    assertEquals(100, result.getWidth());
+    assertEquals(75, result.getHeight());
+    assertTrue(encoder.savedBytes() > 0);
+  }
+
+  @Test
+  public void doesNotUpscaleNarrowScreenshots() {
+    Configuration.screenshotMaxWidth = 1000;
+    BufferedImage image = gradient(400, 300);
+
+    assertSame(image, encoder.convert(image));
+  }
+
+  @Test
+  public void canConvertScreenshotToGrayscale() {
+    Configuration.screenshotColors = "grayscale";
+
+    assertEquals(BufferedImage.TYPE_BYTE_GRAY, encoder.convert(gradient(40, 30)).getType());
+  }
+
+  @Test
+  public void canConvertScreenshotToIndexedColors() {
+    Configuration.screenshotColors = "indexed";
+
+    assertEquals(BufferedImage.TYPE_BYTE_INDEXED, encoder.convert(gradient(40, 30)).getType());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void failsOnUnknownColors() {
+    Configuration.screenshotColors = "cmyk";
+    encoder.convert(gradient(40, 30));
+  }
+
+  @Test
+  public void keepsOriginalScreenshotIfEncodedOneIsNotSmaller() throws IOException {
+    Configuration.screenshotCompressionLevel = 0;
+    byte[] png = png(new BufferedImage(10, 10, BufferedImage.TYPE_BYTE_GRAY));
+
+    assertSame(png, encoder.encode(png));
+    assertEquals(0, encoder.savedBytes());
+  }
+
+  private BufferedImage gradient(int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    for (int x = 0; x < width; x++) {
+      for (int y = 0; y < height; y++) {
+        image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8 | (x * y) % 256);
+      }
+    }
+    return image;
+  }
+
+  private byte[] png(BufferedImage image) throws IOException {
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", png);
+    return png.toByteArray();
+  }
+
+  private BufferedImage read(byte[] png) throws IOException {
+    return ImageIO.read(new ByteArrayInputStream(png));
+  }
+
+  private ScreenshotEncoder encoder(boolean canCompress) {
+    return new ScreenshotEncoder() {
+      @Override
+      boolean canCompress() {
+        return canCompress;
+      }
+    };
+  }
+}
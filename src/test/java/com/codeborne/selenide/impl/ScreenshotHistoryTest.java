@@ -0,0 +1,131 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ScreenshotHistoryTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  ScreenshotHistory history = new ScreenshotHistory();
+  String originalReportsFolder = Configuration.reportsFolder;
+
+  @Before
+  public void setUp() {
+    Configuration.reportsFolder = folder.getRoot().getAbsolutePath();
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.reportsFolder = originalReportsFolder;
+    Configuration.screenshotsHistorySize = -1;
+  }
+
+  @Test
+  public void keepsAllScreenshotsInMemoryByDefault() {
+    assertNull(history.last());
+
+    history.add(new File("1.png"));
+    history.add(new File("2.png"));
+
+    assertEquals(new File("2.png"), history.last());
+    assertEquals(asList(new File("1.png"), new File("2.png")), all());
+    assertNull(history.index());
+    assertEquals(0, folder.getRoot().list().length);
+  }
+
+  @Test
+  public void readsAllScreenshotsFromIndexFileIfHistorySizeIsLimited() {
+    Configuration.screenshotsHistorySize = 2;
+
+    for (int i = 1; i <= 5; i++) {
+      history.add(new File("test" + i + "/screenshot.png"));
+    }
+
+    assertTrue(history.index().exists());
+    assertEquals(folder.getRoot().getAbsoluteFile(), history.index().getParentFile());
+    assertEquals(new File("test5/screenshot.png"), history.last());
+    List<File> all = all();
+    assertEquals(5, all.size());
+    assertEquals(new File("test1/screenshot.png"), all.get(0));
+    assertEquals(new File("test5/screenshot.png"), all.get(4));
+  }
+
+  @Test
+  public void historiesWritingToTheSameFolderReadOnlyOwnScreenshots() {
+    Configuration.screenshotsHistorySize = 1;
+    ScreenshotHistory parallelHistory = new ScreenshotHistory();
+
+    history.add(new File("1.png"));
+    parallelHistory.add(new File("parallel/1.png"));
+    history.add(new File("2.png"));
+    parallelHistory.add(new File("parallel/2.png"));
+
+    assertEquals(asList(new File("1.png"), new File("2.png")), all());
+    try (Stream<File> screenshots = parallelHistory.stream()) {
+      assertEquals(asList(new File("parallel/1.png"), new File("parallel/2.png")), screenshots.collect(toList()));
+    }
+    assertNotEquals(history.index(), parallelHistory.index());
+    assertEquals(2, folder.getRoot().list().length);
+  }
+
+  @Test
+  public void doesNotReadIndexOfPreviousRun() throws IOException {
+    Configuration.screenshotsHistorySize = 1;
+    String previousIndexName = ScreenshotHistory.INDEX_FILE_PREFIX + "previous" + ScreenshotHistory.INDEX_FILE_SUFFIX;
+    File previousIndex = new File(folder.getRoot(), previousIndexName);
+    Files.write(previousIndex.toPath(), "previous/run.png\n".getBytes(UTF_8));
+
+    history.add(new File("1.png"));
+
+    assertEquals(asList(new File("1.png")), all());
+    assertEquals(asList("previous/run.png"), Files.readAllLines(previousIndex.toPath(), UTF_8));
+  }
+
+  @Test
+  public void canAddScreenshotsAfterIndexIsClosed() {
+    Configuration.screenshotsHistorySize = 1;
+
+    history.add(new File("1.png"));
+    history.closeIndex();
+    history.add(new File("2.png"));
+    history.closeIndex();
+
+    assertEquals(asList(new File("1.png"), new File("2.png")), all());
+  }
+
+  @Test
+  public void remembersLastScreenshotEvenIfNoScreenshotsAreKeptInMemory() {
+    Configuration.screenshotsHistorySize = 0;
+
+    history.add(new File("1.png"));
+    history.add(new File("2.png"));
+
+    assertEquals(new File("2.png"), history.last());
+    assertEquals(2, all().size());
+  }
+
+  private List<File> all() {
+    try (Stream<File> screenshots = history.stream()) {
+      return screenshots.collect(toList());
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.By;
+
+import static com.codeborne.selenide.Configuration.SelectorMode.CSS;
+import static com.codeborne.selenide.Configuration.SelectorMode.Sizzle;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SelectorChainTest {
+  @After
+  public void resetSelectorMode() {
+    Configuration.selectorMode = CSS;
+  }
+
+  @Test
+  public void combinesXpathsKeepingFirstParent() {
+    assertEquals(By.xpath("(//form)[1]//input"), SelectorChain.combine(By.xpath("//form"), By.xpath(".//input")));
+    assertEquals(By.xpath("(//form)[1]/input"), SelectorChain.combine(By.xpath("//form"), By.xpath("./input")));
+    assertEquals(By.xpath("(//form)[1]/input[@name='a']"), SelectorChain.combine(By.xpath("//form"), By.xpath("input[@name='a']")));
+  }
+
+  @Test
+  public void combinesChainOfXpaths() {
+    assertEquals(By.xpath("((//form)[1]//fieldset)[1]/input"),
+        SelectorChain.combine(asList(By.xpath("//form"), By.xpath(".//fieldset"), By.xpath("./input"))));
+    assertNull(SelectorChain.combine(asList(By.xpath("//form"), By.xpath("//fieldset"), By.xpath("./input"))));
+  }
+
+  @Test
+  public void combinesOnlyTwoCssSelectors() {
+    assertEquals(By.cssSelector("#a .b"), SelectorChain.combine(asList(By.id("a"), By.cssSelector(".b"))));
+    assertNull(SelectorChain.combine(asList(By.id("a"), By.id("b"), By.cssSelector(".c"))));
+  }
+
+  @Test
+  public void doesNotCombineXpathsThatAreNotRelativeToParent() {
+    assertNull(SelectorChain.combine(By.xpath("//form"), By.xpath("//input")));
+    assertNull(SelectorChain.combine(By.xpath("//form"), By.xpath("/html/body")));
+    assertNull(SelectorChain.combine(By.xpath("//form"), By.xpath(".//a | .//b")));
+    assertNull(SelectorChain.combine(By.xpath("//form"), By.xpath("(.//input)[2]")));
+    assertNull(SelectorChain.combine(By.xpath("//form"), By.xpath("..")));
+  }
+
+  @Test
+  public void combinesCssSelectorsWhenParentIsFoundById() {
+    assertEquals(By.cssSelector("#login .submit"), SelectorChain.combine(By.cssSelector("#login"), By.cssSelector(".submit")));
+    assertEquals(By.cssSelector("#login input[name=user]"),
+        SelectorChain.combine(By.id("login"), By.cssSelector("input[name=user]")));
+    assertEquals(By.cssSelector("#login .submit"), SelectorChain.combine(By.id("login"), By.className("submit")));
+    assertEquals(By.cssSelector("#login button"), SelectorChain.combine(By.id("login"), By.tagName("button")));
+  }
+
+  @Test
+  public void doesNotCombineCssSelectorsThatCouldFindAnotherElement() {
+    assertNull(SelectorChain.combine(By.cssSelector(".login"), By.cssSelector(".submit")));
+    assertNull(SelectorChain.combine(By.cssSelector("#login"), By.cssSelector(".form .submit")));
+    assertNull(SelectorChain.combine(By.cssSelector("#login"), By.cssSelector("a, b")));
+    assertNull(SelectorChain.combine(By.cssSelector("#login"), By.cssSelector("> a")));
+    assertNull(SelectorChain.combine(By.id("login:form"), By.cssSelector("a")));
+    assertNull(SelectorChain.combine(By.id("login"), By.name("user")));
+  }
+
+  @Test
+  public void doesNotMixCssAndXpath() {
+    assertNull(SelectorChain.combine(By.id("login"), By.xpath(".//input")));
+    assertNull(SelectorChain.combine(By.xpath("//form"), By.cssSelector("input")));
+  }
+
+  @Test
+  public void doesNotCombineSizzleSelectors() {
+    Configuration.selectorMode = Sizzle;
+    assertNull(SelectorChain.combine(By.cssSelector("#login"), By.cssSelector(".submit")));
+    assertEquals(By.xpath("(//form)[1]//input"), SelectorChain.combine(By.xpath("//form"), By.xpath(".//input")));
+  }
+
+  @Test
+  public void compoundSelectorHasNoCombinators() {
+    assertTrue(SelectorChain.isCompoundSelector("input.text[name=user]:not(.hidden)"));
+    assertFalse(SelectorChain.isCompoundSelector("div input"));
+    assertFalse(SelectorChain.isCompoundSelector("div>input"));
+    assertFalse(SelectorChain.isCompoundSelector("div+input"));
+    assertFalse(SelectorChain.isCompoundSelector("div~input"));
+    assertFalse(SelectorChain.isCompoundSelector(""));
+  }
+}
@@ -1,11 +1,15 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.Screenshots;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.commands.Commands;
+import com.codeborne.selenide.commands.GetInnerText;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.ElementShould;
+import com.codeborne.selenide.impl.SelenideElementProxy.Dispatch;
 import com.codeborne.selenide.logevents.LogEvent.EventStatus;
 import com.codeborne.selenide.logevents.LogEventListener;
 import com.codeborne.selenide.logevents.SelenideLogger;
@@ -25,7 +29,11 @@ import static com.codeborne.selenide.Selenide.$;
 import static com.codeborne.selenide.impl.SelenideElementProxy.shouldRetryAfterError;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
@@ -236,4 +244,58 @@ public class SelenideElementProxyTest {
   public void shouldRetry_onAnyOtherException() {
     assertThat(shouldRetryAfterError(new Exception("bla")), is(true));
   }
+
+  @Test
+  public void dispatchIsComputedOncePerMethod() throws NoSuchMethodException {
+    Dispatch should = Dispatch.of(SelenideElement.class.getMethod("should", Condition[].class));
+    assertThat(Dispatch.of(SelenideElement.class.getMethod("should", Condition[].class)), sameInstance(should));
+    assertThat(should.softAssertion, is(true));
+    assertThat(should.selenideCommand, is(true));
+    assertThat(should.skipLogging, is(false));
+    assertThat(should.waitCommand, is(false));
+
+    Dispatch getCssValue = Dispatch.of(WebElement.class.getMethod("getCssValue", String.class));
+    assertThat(getCssValue.selenideCommand, is(false));
+    assertThat(getCssValue.softAssertion, is(false));
+    assertThat(Dispatch.of(SelenideElement.class.getMethod("toString")).skipLogging, is(true));
+    assertThat(Dispatch.of(SelenideElement.class.getMethod("waitUntil", Condition.class, long.class)).waitCommand, is(true));
+  }
+
+  @Test
+  public void invokesWebElementMethodsOnFoundElement() {
+    when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(element.isEnabled()).thenReturn(true);
+    when(element.getCssValue("color")).thenReturn("red");
+
+    assertThat($("#firstName").isEnabled(), is(true));
+    assertThat($("#firstName").getCssValue("color"), is("red"));
+  }
+
+  @Test
+  public void usesCommandsAddedAfterFirstInvocation() {
+    when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    assertThat($("#firstName").innerText(), is(nullValue()));
+
+    Commands.getInstance().add("innerText", (proxy, locator, args) -> "custom inner text");
+    try {
+      assertThat($("#firstName").innerText(), is("custom inner text"));
+    }
+    finally {
+      Commands.getInstance().resetDefaults();
+    }
+  }
+
+  @Test
+  public void resetDefaultsReplacesCommandsAndChangesVersionAfterwards() {
+    Commands commands = Commands.getInstance();
+    commands.add("innerText", (proxy, locator, args) -> "custom inner text");
+    commands.add("customCommand", (proxy, locator, args) -> "custom");
+    int version = commands.version();
+
+    commands.resetDefaults();
+
+    assertThat(commands.version(), is(not(version)));
+    assertThat(commands.get("customCommand"), is(nullValue()));
+    assertThat(commands.get("innerText"), instanceOf(GetInnerText.class));
+  }
 }
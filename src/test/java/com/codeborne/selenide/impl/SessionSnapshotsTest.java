@@ -0,0 +1,113 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.SessionSnapshot;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openqa.selenium.Cookie;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Date;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class SessionSnapshotsTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final SessionSnapshots snapshots = new SessionSnapshots();
+  private final SessionSnapshot snapshot = new SessionSnapshot("https://example.com",
+      singletonList(new Cookie("session", "abc")), singletonMap("token", "xyz"), emptyMap());
+
+  @After
+  public void tearDown() {
+    Configuration.sessionSnapshotsFolder = null;
+    Configuration.sessionSnapshotMaxAgeMs = 3600000;
+  }
+
+  @Test
+  public void keepsSnapshotsInMemory() {
+    snapshots.save("bob", snapshot);
+
+    assertThat(snapshots.get("bob"), is(sameInstance(snapshot)));
+    assertThat(snapshots.get("alice"), is(nullValue()));
+  }
+
+  @Test
+  public void savesSnapshotsToDisk() throws IOException {
+    Configuration.sessionSnapshotsFolder = folder.newFolder("sessions").getAbsolutePath();
+    snapshots.save("bob@example.com/admin", snapshot);
+    snapshots.clear();
+
+    SessionSnapshot restored = snapshots.get("bob@example.com/admin");
+
+    assertThat(restored.getOrigin(), is("https://example.com"));
+    assertThat(restored.getCookies(), contains(new Cookie("session", "abc")));
+    assertThat(restored.getLocalStorage(), equalTo(singletonMap("token", "xyz")));
+    assertThat(restored.getCapturedAt(), is(snapshot.getCapturedAt()));
+  }
+
+  @Test
+  public void savesCookieAttributesToDisk() throws IOException {
+    Configuration.sessionSnapshotsFolder = folder.newFolder("sessions").getAbsolutePath();
+    Date expiry = new Date(System.currentTimeMillis() / 1000 * 1000 + 60000);
+    Cookie cookie = new Cookie("session", "abc", "example.com", "/admin", expiry, true, true);
+    snapshots.save("bob", new SessionSnapshot("https://example.com", singletonList(cookie), emptyMap(), singletonMap("tab", "2")));
+    snapshots.clear();
+
+    SessionSnapshot restored = snapshots.get("bob");
+
+    Cookie restoredCookie = restored.getCookies().get(0);
+    assertThat(restoredCookie.getDomain(), is("example.com"));
+    assertThat(restoredCookie.getPath(), is("/admin"));
+    assertThat(restoredCookie.getExpiry(), equalTo(expiry));
+    assertThat(restoredCookie.isSecure(), is(true));
+    assertThat(restoredCookie.isHttpOnly(), is(true));
+    assertThat(restored.getSessionStorage(), equalTo(singletonMap("tab", "2")));
+  }
+
+  @Test
+  public void ignoresFilesWhichAreNotSnapshots() throws IOException {
+    Configuration.sessionSnapshotsFolder = folder.newFolder("sessions").getAbsolutePath();
+    File file = snapshots.file("bob");
+    Files.write(file.toPath(), "garbage".getBytes(UTF_8));
+
+    assertThat(snapshots.get("bob"), is(nullValue()));
+  }
+
+  @Test
+  public void doesNotRestoreExpiredSnapshots() throws IOException {
+    Configuration.sessionSnapshotsFolder = folder.newFolder("sessions").getAbsolutePath();
+    Configuration.sessionSnapshotMaxAgeMs = 60000;
+    long twoMinutesAgo = System.currentTimeMillis() - 120000;
+    snapshots.save("bob", new SessionSnapshot("https://example.com", emptyList(), emptyMap(), emptyMap(), twoMinutesAgo));
+
+    assertThat(snapshots.get("bob"), is(nullValue()));
+    assertThat(snapshots.file("bob").exists(), is(false));
+  }
+
+  @Test
+  public void removesSnapshots() throws IOException {
+    Configuration.sessionSnapshotsFolder = folder.newFolder("sessions").getAbsolutePath();
+    snapshots.save("bob", snapshot);
+
+    snapshots.remove("bob");
+    snapshots.clear();
+
+    assertThat(snapshots.get("bob"), is(nullValue()));
+  }
+}
@@ -0,0 +1,151 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.webdriver.WebDriverFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.LinkedHashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.codeborne.selenide.Configuration.FileDownloadMode.HTTPGET;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WebDriverPoolContainerTest {
+  private final WebDriverPoolContainer pool = new WebDriverPoolContainer(2);
+  private final RemoteWebDriver browser1 = mock(RemoteWebDriver.class, RETURNS_DEEP_STUBS);
+  private final RemoteWebDriver browser2 = mock(RemoteWebDriver.class, RETURNS_DEEP_STUBS);
+  private final RemoteWebDriver browser3 = mock(RemoteWebDriver.class, RETURNS_DEEP_STUBS);
+
+  @Before
+  public void setUp() {
+    Configuration.fileDownload = HTTPGET;
+    pool.factory = mock(WebDriverFactory.class);
+    when(pool.factory.createWebDriver(any())).thenReturn(browser1, browser2, browser3);
+    when(browser1.getWindowHandles()).thenReturn(singleton("main"));
+    when(browser2.getWindowHandles()).thenReturn(singleton("main"));
+    when(browser3.getWindowHandles()).thenReturn(singleton("main"));
+  }
+
+  @After
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  public void reusesBrowserAfterItIsClosed() {
+    WebDriver first = pool.getWebDriver();
+    pool.closeWebDriver();
+    WebDriver second = pool.getWebDriver();
+
+    assertThat(second, sameInstance(first));
+    verify(pool.factory, times(1)).createWebDriver(any());
+    verify(browser1, never()).quit();
+    assertThat(pool.leases(), is(2L));
+    assertThat(pool.resets(), is(1L));
+  }
+
+  @Test
+  public void resetsBrowserStateBeforeReuse() {
+    when(browser1.getWindowHandles()).thenReturn(new LinkedHashSet<>(asList("main", "popup")));
+    pool.getWebDriver();
+    pool.closeWebDriver();
+
+    verify(browser1.switchTo().window("popup")).close();
+    verify(browser1.switchTo()).window("main");
+    verify(browser1.switchTo()).defaultContent();
+    verify(browser1.manage()).deleteAllCookies();
+    verify(browser1).executeScript(anyString());
+    verify(browser1.navigate()).to("about:blank");
+    assertThat(pool.idle(), is(1));
+  }
+
+  @Test
+  public void replacesBrowserIfItsStateCannotBeReset() {
+    when(browser1.getWindowHandles()).thenThrow(new WebDriverException("browser has died"));
+    pool.getWebDriver();
+    pool.closeWebDriver();
+
+    verify(browser1).quit();
+    assertThat(pool.evictions(), is(1L));
+    verify(pool.factory, timeout(1000).times(2)).createWebDriver(any());
+    assertThat(pool.getWebDriver(), is(not(sameInstance(browser1))));
+  }
+
+  @Test
+  public void threadsWaitForBrowserIfAllBrowsersAreLeased() throws Exception {
+    ExecutorService threads = Executors.newFixedThreadPool(2);
+    try {
+      WebDriver first = pool.getWebDriver();
+      WebDriver second = threads.submit(pool::getWebDriver).get(1, TimeUnit.SECONDS);
+      assertThat(second, is(not(sameInstance(first))));
+
+      Future<WebDriver> third = threads.submit(pool::getWebDriver);
+      Thread.sleep(100);
+      assertThat(third.isDone(), is(false));
+
+      pool.closeWebDriver();
+      assertThat(third.get(3, TimeUnit.SECONDS), sameInstance(first));
+      verify(pool.factory, times(2)).createWebDriver(any());
+    }
+    finally {
+      threads.shutdown();
+    }
+  }
+
+  @Test
+  public void prestartsAllBrowsersInBackground() {
+    pool.prestart();
+
+    verify(pool.factory, timeout(1000).times(2)).createWebDriver(any());
+  }
+
+  @Test
+  public void closesAllBrowsersOnShutdown() {
+    pool.getWebDriver();
+    pool.shutdown();
+
+    verify(browser1).quit();
+  }
+
+  @Test
+  public void closesPooledAndNotPooledWebDriversBeforeJvmExit() throws InterruptedException {
+    Configuration.holdBrowserOpen = false;
+    pool.getWebDriver();
+    WebDriver notPooled = mock(WebDriver.class);
+    Thread thread = new Thread(() -> pool.markForAutoClose(pool.setWebDriver(notPooled)));
+    thread.start();
+    thread.join();
+
+    pool.closeAllWebDrivers();
+
+    verify(browser1).quit();
+    verify(notPooled, timeout(1000)).quit();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void poolSizeShouldBePositive() {
+    new WebDriverPoolContainer(0);
+  }
+}
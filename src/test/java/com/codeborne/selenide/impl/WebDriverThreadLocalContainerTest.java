@@ -1,23 +1,30 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.BrowserSession;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.impl.WebDriverThreadLocalContainer.StartedBrowser;
 import com.codeborne.selenide.webdriver.WebDriverFactory;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchSessionException;
 import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.remote.UnreachableBrowserException;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.logging.Handler;
 import java.util.logging.Logger;
 import java.util.logging.StreamHandler;
@@ -26,6 +33,7 @@ import static com.codeborne.selenide.Configuration.FileDownloadMode.HTTPGET;
 import static com.codeborne.selenide.Configuration.FileDownloadMode.PROXY;
 import static com.codeborne.selenide.Selenide.close;
 import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
@@ -157,4 +165,214 @@ public class WebDriverThreadLocalContainerTest {
     assertThat(capturedLog, containsString(String.format("Close proxy server: %s ->", currentThreadId)));
   }
 
+  @Test
+  public void firstThreadGetsPrewarmedWebDriver() {
+    Configuration.fileDownload = HTTPGET;
+    WebDriver prewarmed = mock(WebDriver.class);
+    doReturn(prewarmed).when(container.factory).createWebDriver(null);
+
+    container.prewarm();
+    verify(container.factory, timeout(1000)).createWebDriver(null);
+
+    assertSame(prewarmed, container.getWebDriver());
+    verify(container.factory, times(1)).createWebDriver(null);
+  }
+
+  @Test
+  public void createsWebDriverIfPrewarmingFailed() {
+    Configuration.fileDownload = HTTPGET;
+    WebDriver webdriver = mock(WebDriver.class);
+    doThrow(new IllegalStateException("no chrome")).doReturn(webdriver).when(container.factory).createWebDriver(null);
+
+    container.prewarm();
+
+    assertSame(webdriver, container.getWebDriver());
+    verify(container.factory, times(2)).createWebDriver(null);
+  }
+
+  @Test
+  public void closesPrewarmedBrowserWhenItIsStarted() throws InterruptedException {
+    CountDownLatch browserStarted = new CountDownLatch(1);
+    StartedBrowser browser = new StartedBrowser(mock(WebDriver.class), null);
+    List<StartedBrowser> closed = new CopyOnWriteArrayList<>();
+    PrewarmedBrowsers prewarmed = new PrewarmedBrowsers();
+    prewarmed.start(() -> {
+      browserStarted.await();
+      return browser;
+    }, closed::add);
+
+    Thread shutdown = new Thread(() -> prewarmed.closeAll(closed::add));
+    shutdown.start();
+    shutdown.join(200);
+    assertThat(closed, is(empty()));
+
+    browserStarted.countDown();
+    shutdown.join(1000);
+    assertThat(closed, contains(browser));
+  }
+
+  @Test
+  public void closesWebDriverInBackground() throws InterruptedException {
+    Configuration.holdBrowserOpen = false;
+    Configuration.closeBrowserAsync = true;
+    try {
+      CountDownLatch quitStarted = new CountDownLatch(1);
+      CountDownLatch browserClosed = new CountDownLatch(1);
+      WebDriver webdriver = mock(WebDriver.class);
+      doAnswer(invocation -> {
+        quitStarted.countDown();
+        browserClosed.await();
+        return null;
+      }).when(webdriver).quit();
+      container.setWebDriver(webdriver);
+
+      container.closeWebDriver();
+
+      assertThat(container.hasWebDriverStarted(), is(false));
+      assertThat(quitStarted.await(1, SECONDS), is(true));
+      assertThat(container.pendingCloses(), is(1));
+
+      browserClosed.countDown();
+      container.waitForPendingCloses();
+      assertThat(container.pendingCloses(), is(0));
+    }
+    finally {
+      Configuration.closeBrowserAsync = false;
+    }
+  }
+
+  @Test
+  public void forgetsWebDriverWhichFailedToCloseInBackground() {
+    Configuration.holdBrowserOpen = false;
+    Configuration.closeBrowserAsync = true;
+    try {
+      WebDriver webdriver = mock(WebDriver.class);
+      doThrow(new IllegalStateException("browser crashed")).when(webdriver).quit();
+      container.setWebDriver(webdriver);
+
+      container.closeWebDriver();
+      container.waitForPendingCloses();
+
+      verify(webdriver).quit();
+      assertThat(container.pendingCloses(), is(0));
+    }
+    finally {
+      Configuration.closeBrowserAsync = false;
+    }
+  }
+
+  @Test
+  public void closesWebDriverOfDeadThread() throws InterruptedException {
+    Configuration.holdBrowserOpen = false;
+    Configuration.fileDownload = HTTPGET;
+    WebDriver webdriver = mock(WebDriver.class);
+    doReturn(webdriver).when(container.factory).createWebDriver(null);
+
+    Thread thread = new Thread(container::getWebDriver);
+    thread.start();
+    thread.join();
+
+    verify(webdriver, timeout(2000)).quit();
+    verify(container, timeout(1000)).closeWebDriver(thread);
+    assertThat(container.reapedWebdrivers(), is(1L));
+    assertThat(container.ALL_WEB_DRIVERS_THREADS, not(hasItem(thread)));
+  }
+
+  @Test
+  public void closesWebDriversOfAllThreadsInParallelBeforeExit() {
+    Configuration.holdBrowserOpen = false;
+    long originalTimeout = Configuration.closeBrowserTimeoutMs;
+    Configuration.closeBrowserTimeoutMs = 3000;
+    try {
+      CountDownLatch quitStarted = new CountDownLatch(2);
+      WebDriver webdriver1 = mockWebDriverWaitingFor(quitStarted);
+      WebDriver webdriver2 = mockWebDriverWaitingFor(quitStarted);
+      Thread thread1 = new Thread(() -> { });
+      Thread thread2 = new Thread(() -> { });
+      container.ALL_WEB_DRIVERS_THREADS.add(thread1);
+      container.ALL_WEB_DRIVERS_THREADS.add(thread2);
+      container.THREAD_WEB_DRIVER.put(thread1.getId(), webdriver1);
+      container.THREAD_WEB_DRIVER.put(thread2.getId(), webdriver2);
+
+      long start = System.currentTimeMillis();
+      container.closeAllWebDrivers();
+
+      assertThat(System.currentTimeMillis() - start, lessThan(2000L));
+      verify(webdriver1).quit();
+      verify(webdriver2).quit();
+      assertThat(container.ALL_WEB_DRIVERS_THREADS, is(empty()));
+    }
+    finally {
+      Configuration.closeBrowserTimeoutMs = originalTimeout;
+    }
+  }
+
+  private WebDriver mockWebDriverWaitingFor(CountDownLatch quitStarted) {
+    WebDriver webdriver = mock(WebDriver.class);
+    doAnswer(invocation -> {
+      quitStarted.countDown();
+      quitStarted.await(5, SECONDS);
+      return null;
+    }).when(webdriver).quit();
+    return webdriver;
+  }
+
+  @Test
+  public void startsSessionNotBoundToThread() {
+    Configuration.fileDownload = HTTPGET;
+    WebDriver webdriver = mock(WebDriver.class);
+    doReturn(webdriver).when(container.factory).createWebDriver(null);
+
+    BrowserSession session = container.startSession();
+
+    assertSame(webdriver, session.getWebDriver());
+    assertThat(container.hasWebDriverStarted(), is(false));
+  }
+
+  @Test
+  public void doesNotPingBrowserThatHasJustExecutedCommand() {
+    WebDriver webdriver = startTrackedWebDriver();
+    try {
+      ((JavascriptExecutor) container.getWebDriver()).executeScript("return 1");
+
+      container.getAndCheckWebDriver();
+      container.getAndCheckWebDriver();
+
+      verify(webdriver, never()).getTitle();
+    }
+    finally {
+      Configuration.browserAliveCheckIntervalMs = 0;
+    }
+  }
+
+  @Test
+  public void pingsBrowserAfterError() {
+    WebDriver webdriver = startTrackedWebDriver();
+    try {
+      doThrow(new WebDriverException("oops")).when((JavascriptExecutor) webdriver).executeScript("return 1");
+      try {
+        ((JavascriptExecutor) container.getWebDriver()).executeScript("return 1");
+      }
+      catch (WebDriverException expected) {
+        // browser might be broken now
+      }
+
+      container.getAndCheckWebDriver();
+      container.getAndCheckWebDriver();
+
+      verify(webdriver, times(1)).getTitle();
+    }
+    finally {
+      Configuration.browserAliveCheckIntervalMs = 0;
+    }
+  }
+
+  private WebDriver startTrackedWebDriver() {
+    Configuration.fileDownload = HTTPGET;
+    Configuration.reopenBrowserOnFail = true;
+    Configuration.browserAliveCheckIntervalMs = 60000;
+    WebDriver webdriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    doReturn(webdriver).when(container.factory).createWebDriver(null);
+    return webdriver;
+  }
 }
@@ -0,0 +1,110 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+
+import static com.codeborne.selenide.Configuration.SelectorMode.CSS;
+import static com.codeborne.selenide.Configuration.SelectorMode.Sizzle;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WebElementSelectorTest {
+  private final RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+  private final WebElement element = mock(WebElement.class);
+  private final WebElementSelector selector = new WebElementSelector() {
+    @Override
+    protected String loadSizzleSource() {
+      return "/* sizzle */";
+    }
+  };
+
+  @Before
+  public void setUp() {
+    Configuration.selectorMode = Sizzle;
+    WebDriverRunner.setWebDriver(webdriver);
+    when(webdriver.executeScript(anyString(), any())).thenReturn(singletonList(element));
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.selectorMode = CSS;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void injectsSizzleAndFindsElementsWithSingleScript() {
+    List<WebElement> found = selector.findElements(webdriver, By.cssSelector("div:first"));
+
+    assertThat(found, equalTo(singletonList(element)));
+    verify(webdriver).executeScript(argThat(script -> script.startsWith("/* sizzle */")), eq("div:first"), isNull());
+    verify(webdriver, times(1)).executeScript(anyString(), any());
+  }
+
+  @Test
+  public void doesNotInjectSizzleAgainIntoTheSameDocument() {
+    selector.findElements(webdriver, By.cssSelector("div:first"));
+    assertThat(selector.findElement(element, By.cssSelector("a:first")), sameInstance(element));
+
+    verify(webdriver).executeScript(argThat(script -> script.startsWith("/* sizzle */")), any());
+    verify(webdriver).executeScript(argThat(script -> script.contains("typeof Sizzle")), eq("a:first"), eq(element));
+    verify(webdriver, times(2)).executeScript(anyString(), any());
+  }
+
+  @Test
+  public void injectsSizzleAgainAfterNavigation() {
+    selector.findElements(webdriver, By.cssSelector("div:first"));
+    ElementsCache.instance.invalidate(webdriver);
+    selector.findElements(webdriver, By.cssSelector("div:first"));
+
+    verify(webdriver, times(2)).executeScript(argThat(script -> script.startsWith("/* sizzle */")), any());
+    verify(webdriver, times(2)).executeScript(anyString(), any());
+  }
+
+  @Test
+  public void injectsSizzleAgainIfDocumentWasChangedWithoutSelenide() {
+    selector.findElements(webdriver, By.cssSelector("div:first"));
+    when(webdriver.executeScript(argThat(script -> script.contains("typeof Sizzle")), any())).thenReturn(null);
+
+    assertThat(selector.findElements(webdriver, By.cssSelector("div:first")), equalTo(singletonList(element)));
+    verify(webdriver, times(2)).executeScript(argThat(script -> script.startsWith("/* sizzle */")), any());
+    verify(webdriver, times(3)).executeScript(anyString(), any());
+  }
+
+  @Test
+  public void usesWebdriverForCssSelectorsInCssMode() {
+    Configuration.selectorMode = CSS;
+    when(webdriver.findElement(By.cssSelector("div"))).thenReturn(element);
+
+    assertThat(selector.findElement(webdriver, By.cssSelector("div")), sameInstance(element));
+    verify(webdriver, times(0)).executeScript(anyString(), any());
+  }
+
+  @Test
+  public void injectedScriptReturnsFoundElements() {
+    selector.findElements(webdriver, By.cssSelector("div:first"));
+    verify(webdriver).executeScript(argThat(script -> script.endsWith("return Sizzle(arguments[0], arguments[1]);")), any());
+    assertThat(selector.loadSizzleSource(), startsWith("/* sizzle"));
+    assertThat(new WebElementSelector().loadSizzleSource(), containsString("Sizzle CSS Selector Engine"));
+  }
+}
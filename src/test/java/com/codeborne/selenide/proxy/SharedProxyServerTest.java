@@ -0,0 +1,136 @@
+package com.codeborne.selenide.proxy;
+
+import com.sun.net.httpserver.HttpServer;
+import net.lightbody.bmp.filters.ResponseFilter;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class SharedProxyServerTest {
+  private final SharedProxyServer sharedProxyServer = new SharedProxyServer();
+  private HttpServer httpServer;
+
+  @Before
+  public void startHttpServer() throws IOException {
+    httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    httpServer.createContext("/", exchange -> {
+      byte[] body = ("hello " + exchange.getRequestURI().getPath()).getBytes(UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    httpServer.start();
+  }
+
+  @After
+  public void stopHttpServer() {
+    httpServer.stop(0);
+  }
+
+  @Test
+  public void routesTrafficOfEveryBrowserToItsOwnFilters() throws IOException {
+    SelenideProxyServer alice = sharedProxyServer.newSession();
+    SelenideProxyServer bob = sharedProxyServer.newSession();
+    List<String> aliceUrls = recordUrls(alice);
+    List<String> bobUrls = recordUrls(bob);
+    alice.start();
+    bob.start();
+    try {
+      assertThat(sharedProxyServer.activeSessions(), is(2));
+      assertThat(alice.createSeleniumProxy().getHttpProxy(), not(bob.createSeleniumProxy().getHttpProxy()));
+
+      assertThat(get("/alice", alice), is("hello /alice"));
+
+      assertThat(aliceUrls, contains(url("/alice")));
+      assertThat(bobUrls, is(empty()));
+      assertThat(alice.responseFilter("download"), instanceOf(FileDownloadFilter.class));
+    }
+    finally {
+      alice.shutdown();
+      bob.shutdown();
+    }
+    assertThat(sharedProxyServer.activeSessions(), is(0));
+  }
+
+  @Test
+  public void sessionDoesNotCreateBrowserMobProxy() {
+    SelenideProxyServer session = sharedProxyServer.newSession();
+
+    assertThat(session.proxy, is(nullValue()));
+    try {
+      session.getProxy();
+      fail("Shared proxy session should not provide BrowserMob proxy");
+    }
+    catch (UnsupportedOperationException expected) {
+      assertThat(expected.getMessage(), is("BrowserMob proxy is not available with shared proxy server"));
+    }
+  }
+
+  @Test
+  public void restartsServerAfterAllSessionsAreClosed() throws IOException {
+    SelenideProxyServer first = sharedProxyServer.newSession();
+    first.start();
+    first.shutdown();
+
+    SelenideProxyServer second = sharedProxyServer.newSession();
+    second.start();
+    try {
+      assertThat(get("/again", second), is("hello /again"));
+    }
+    finally {
+      second.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void filterNamesShouldBeUnique() {
+    SelenideProxyServer session = sharedProxyServer.newSession();
+    session.addResponseFilter("log", (response, contents, messageInfo) -> { });
+    session.addResponseFilter("log", (response, contents, messageInfo) -> { });
+  }
+
+  private List<String> recordUrls(SelenideProxyServer session) {
+    List<String> urls = new CopyOnWriteArrayList<>();
+    ResponseFilter filter = (response, contents, messageInfo) -> urls.add(messageInfo.getUrl());
+    session.addResponseFilter("recorder", filter);
+    return urls;
+  }
+
+  private String url(String path) {
+    return "http://127.0.0.1:" + httpServer.getAddress().getPort() + path;
+  }
+
+  private String get(String path, SelenideProxyServer session) throws IOException {
+    String[] proxyAddress = session.createSeleniumProxy().getHttpProxy().split(":");
+    Proxy proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress(proxyAddress[0], Integer.parseInt(proxyAddress[1])));
+    HttpURLConnection connection = (HttpURLConnection) new URL(url(path)).openConnection(proxy);
+    try (InputStream in = connection.getInputStream()) {
+      return IOUtils.toString(in, UTF_8);
+    }
+    finally {
+      connection.disconnect();
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.codeborne.selenide.webdriver;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class DriverBinaryCacheTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File cacheFile;
+  private File binary;
+
+  @Before
+  public void setUp() throws IOException {
+    cacheFile = new File(folder.getRoot(), "cache/drivers.properties");
+    binary = folder.newFile("chromedriver");
+    binary.setExecutable(true);
+  }
+
+  @Test
+  public void remembersBinaryPathBetweenRuns() {
+    new DriverBinaryCache(cacheFile).save("webdriver.chrome.driver", binary.getAbsolutePath(), "2.40");
+
+    DriverBinaryCache cache = new DriverBinaryCache(cacheFile);
+    assertThat(cache.binaryPath("webdriver.chrome.driver"), is(binary.getAbsolutePath()));
+    assertThat(cache.version("webdriver.chrome.driver"), is("2.40"));
+    assertThat(cache.binaryPath("webdriver.gecko.driver"), is(nullValue()));
+  }
+
+  @Test
+  public void ignoresBinaryThatDoesNotExistAnymore() {
+    DriverBinaryCache cache = new DriverBinaryCache(cacheFile);
+    cache.save("webdriver.chrome.driver", binary.getAbsolutePath(), "2.40");
+
+    binary.delete();
+
+    assertThat(cache.binaryPath("webdriver.chrome.driver"), is(nullValue()));
+  }
+
+  @Test
+  public void ignoresBinaryOfAnotherVersionThanRequested() {
+    DriverBinaryCache cache = new DriverBinaryCache(cacheFile);
+    cache.save("webdriver.chrome.driver", binary.getAbsolutePath(), "2.40");
+
+    try {
+      System.setProperty("wdm.chromeDriverVersion", "2.41");
+      assertThat(cache.binaryPath("webdriver.chrome.driver"), is(nullValue()));
+
+      System.setProperty("wdm.chromeDriverVersion", "2.40");
+      assertThat(cache.binaryPath("webdriver.chrome.driver"), is(binary.getAbsolutePath()));
+    }
+    finally {
+      System.clearProperty("wdm.chromeDriverVersion");
+    }
+  }
+
+  @Test
+  public void ignoresBinaryThatWasReplaced() {
+    DriverBinaryCache cache = new DriverBinaryCache(cacheFile);
+    cache.save("webdriver.chrome.driver", binary.getAbsolutePath(), "2.40");
+
+    binary.setLastModified(binary.lastModified() - 60000);
+
+    assertThat(cache.binaryPath("webdriver.chrome.driver"), is(nullValue()));
+  }
+
+  @Test
+  public void doesNotLeaveTemporaryFiles() {
+    DriverBinaryCache cache = new DriverBinaryCache(cacheFile);
+    cache.save("webdriver.chrome.driver", binary.getAbsolutePath(), "2.40");
+    cache.save("webdriver.gecko.driver", binary.getAbsolutePath(), "0.21");
+
+    assertThat(cacheFile.getParentFile().list(), arrayContaining("drivers.properties"));
+  }
+}
@@ -0,0 +1,80 @@
+package com.codeborne.selenide.webdriver;
+
+import com.codeborne.selenide.Configuration;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.function.Supplier;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class WebDriverBinaryManagerTest {
+  private static final String PROPERTY = "webdriver.selenide-test.driver";
+
+  private final WebDriverBinaryManager binaryManager = new WebDriverBinaryManager();
+  private final DriverBinaryCache cache = mock(DriverBinaryCache.class);
+  private final WebDriverManager webDriverManager = mock(WebDriverManager.class);
+  @SuppressWarnings("unchecked")
+  private final Supplier<WebDriverManager> managerSupplier = mock(Supplier.class);
+
+  {
+    binaryManager.cache = cache;
+    when(managerSupplier.get()).thenReturn(webDriverManager);
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(PROPERTY);
+    Configuration.cacheDriverBinaries = false;
+    Configuration.offlineDriverBinaries = false;
+  }
+
+  @Test
+  public void usesCachedBinaryWithoutResolvingIt() {
+    Configuration.cacheDriverBinaries = true;
+    when(cache.binaryPath(PROPERTY)).thenReturn("/opt/drivers/chromedriver");
+
+    binaryManager.setup(PROPERTY, managerSupplier);
+
+    assertThat(System.getProperty(PROPERTY), is("/opt/drivers/chromedriver"));
+    verify(managerSupplier, never()).get();
+  }
+
+  @Test
+  public void cachesResolvedBinary() {
+    Configuration.cacheDriverBinaries = true;
+    when(webDriverManager.getBinaryPath()).thenReturn("/opt/drivers/chromedriver");
+    when(webDriverManager.getDownloadedVersion()).thenReturn("2.40");
+
+    binaryManager.setup(PROPERTY, managerSupplier);
+
+    verify(webDriverManager).setup();
+    verify(webDriverManager, never()).forceCache();
+    verify(cache).save(PROPERTY, "/opt/drivers/chromedriver", "2.40");
+  }
+
+  @Test
+  public void offlineModeUsesOnlyCachedVersions() {
+    Configuration.offlineDriverBinaries = true;
+
+    binaryManager.setup(PROPERTY, managerSupplier);
+
+    verify(webDriverManager).forceCache();
+    verify(webDriverManager).setup();
+  }
+
+  @Test
+  public void doesNotUseCacheByDefault() {
+    binaryManager.setup(PROPERTY, managerSupplier);
+
+    verify(webDriverManager).setup();
+    verifyZeroInteractions(cache);
+  }
+}